@@ -19,15 +19,27 @@ import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
-import javafx.scene.web.WebView;
+import javafx.scene.control.DialogPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.TextFlow;
 import javafx.stage.Modality;
 import javafx.stage.Window;
 
+import io.github.architekt1024.javafxhelper.dialog.DialogProvider;
+import io.github.architekt1024.javafxhelper.dialog.DialogProviders;
+import io.github.architekt1024.javafxhelper.dialog.StackTraceLines;
+import io.github.architekt1024.javafxhelper.listview.LargeTextView;
+import io.github.architekt1024.javafxhelper.utils.DesktopUtils;
+import io.github.architekt1024.javafxhelper.utils.SimpleHtmlRenderer;
 import io.github.architekt1024.javafxhelper.utils.WebUtils;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@link Alert} builder.
@@ -48,6 +60,16 @@ import org.jetbrains.annotations.Nullable;
  * @since 0.1.8
  */
 public class AlertBuilder {
+	private static final Logger LOG = LoggerFactory.getLogger(AlertBuilder.class);
+	/**
+	 * Default length of content text above which {@link LargeTextView} is used
+	 *
+	 * @since 0.1.12
+	 */
+	public static final int DEFAULT_LARGE_TEXT_THRESHOLD = 20_000;
+	private static final double LARGE_TEXT_WIDTH = 800;
+	private static final double LARGE_TEXT_HEIGHT = 500;
+
 	private Alert.AlertType alertType;
 	private String title;
 	private String contentText;
@@ -59,6 +81,8 @@ public class AlertBuilder {
 	private ButtonType[] buttons;
 	private Boolean resizable;
 	private Modality modality;
+	private int largeTextThreshold = DEFAULT_LARGE_TEXT_THRESHOLD;
+	private Throwable throwable;
 
 	/**
 	 * Alert without type
@@ -88,15 +112,22 @@ public class AlertBuilder {
 	 * @since 0.1.8
 	 */
 	public Alert build() {
-		final Alert alert = new Alert(alertType, contentText, buttons);
+		final boolean largeText = contentText != null && contentText.length() > largeTextThreshold;
+		final Alert alert = new Alert(alertType, largeText ? null : contentText, buttons);
 		alert.setTitle(title);
 		alert.setHeaderText(headerText);
 		if (resizable != null) {
 			alert.setResizable(resizable);
 		}
 		if (htmlText != null) {
-			final WebView webView = WebUtils.loadContent(htmlText, prefWidth, prefHeight);
-			alert.getDialogPane().setContent(webView);
+			alert.getDialogPane().setContent(createHtmlContent(htmlText));
+		} else if (largeText) {
+			alert.getDialogPane().setContent(createLargeTextContent(contentText));
+			alert.setResizable(resizable == null || resizable);
+		}
+		if (throwable != null) {
+			setStackTraceContent(alert.getDialogPane(), throwable);
+			alert.setResizable(resizable == null || resizable);
 		}
 		if (parentWindow != null) {
 			alert.initOwner(parentWindow);
@@ -109,15 +140,63 @@ public class AlertBuilder {
 		return alert;
 	}
 
+	/**
+	 * Create HTML content. Simple markup is rendered as {@link TextFlow}, otherwise {@link javafx.scene.web.WebView} is used.
+	 *
+	 * @param html HTML text
+	 *
+	 * @return content node
+	 */
+	private Node createHtmlContent(@NotNull String html) {
+		final Optional<TextFlow> textFlow = SimpleHtmlRenderer.render(html, AlertBuilder::browse);
+		if (textFlow.isEmpty()) {
+			return WebUtils.loadContent(html, prefWidth, prefHeight);
+		}
+		final TextFlow content = textFlow.get();
+		if (prefWidth != null) {
+			content.setPrefWidth(prefWidth);
+		}
+		if (prefHeight != null) {
+			content.setPrefHeight(prefHeight);
+		}
+		return content;
+	}
+
+	private Node createLargeTextContent(@NotNull String text) {
+		final LargeTextView view = new LargeTextView(text);
+		view.setPrefSize(Objects.requireNonNullElse(prefWidth, LARGE_TEXT_WIDTH),
+			Objects.requireNonNullElse(prefHeight, LARGE_TEXT_HEIGHT));
+		return view;
+	}
+
+	/**
+	 * Stack trace is formatted only when user expand details.
+	 */
+	private static void setStackTraceContent(DialogPane dialogPane, Throwable throwable) {
+		final StackPane details = new StackPane();
+		details.setPrefSize(LARGE_TEXT_WIDTH, LARGE_TEXT_HEIGHT);
+		dialogPane.setExpandableContent(details);
+		dialogPane.expandedProperty().addListener((observable, oldValue, newValue) -> {
+			if (Boolean.TRUE.equals(newValue) && details.getChildren().isEmpty()) {
+				details.getChildren().add(new LargeTextView(String.join("\n", StackTraceLines.format(throwable))));
+			}
+		});
+	}
+
+	private static void browse(String url) {
+		DesktopUtils.browse(url, e -> LOG.warn("Cannot open link {}", url, e));
+	}
+
 	/**
 	 * Build alert and wait for user response (in other words, brings up a blocking dialog, with the returned value the users input).
+	 * The alert is shown by current {@link DialogProvider}.
 	 *
 	 * @return {@link Optional} button clicked by user
 	 *
 	 * @since 0.1.8
 	 */
 	public Optional<ButtonType> buildAndShow() {
-		return build().showAndWait();
+		return DialogProviders.get().showAlert(this);
 	}
 
 	/**
@@ -194,6 +273,58 @@ public class AlertBuilder {
 		return this;
 	}
 
+	/**
+	 * Get {@code largeTextThreshold}
+	 *
+	 * @return length of content text above which {@link LargeTextView} is used
+	 *
+	 * @since 0.1.12
+	 */
+	public int getLargeTextThreshold() {
+		return largeTextThreshold;
+	}
+
+	/**
+	 * Set {@code largeTextThreshold}. Content text longer than threshold is shown in {@link LargeTextView},
+	 * which renders only visible lines.
+	 *
+	 * @param largeTextThreshold text length, for null will be used {@link #DEFAULT_LARGE_TEXT_THRESHOLD}
+	 *
+	 * @return this builder
+	 *
+	 * @since 0.1.12
+	 */
+	public AlertBuilder setLargeTextThreshold(@Nullable Integer largeTextThreshold) {
+		this.largeTextThreshold = Objects.requireNonNullElse(largeTextThreshold, DEFAULT_LARGE_TEXT_THRESHOLD);
+		return this;
+	}
+
+	/**
+	 * Get {@code throwable}
+	 *
+	 * @return exception shown in details
+	 *
+	 * @since 0.1.12
+	 */
+	public Throwable getThrowable() {
+		return throwable;
+	}
+
+	/**
+	 * Set {@code throwable}. Stack trace (including causes and suppressed exceptions) is shown in expandable details
+	 * and formatted only when details are expanded.
+	 *
+	 * @param throwable exception shown in details
+	 *
+	 * @return this builder
+	 *
+	 * @since 0.1.12
+	 */
+	public AlertBuilder setThrowable(@Nullable Throwable throwable) {
+		this.throwable = throwable;
+		return this;
+	}
+
 	/**
 	 * Get {@code headerText}
 	 *
@@ -281,7 +412,7 @@ public class AlertBuilder {
 	}
 
 	/**
-	 * Set {@code htmlText}
+	 * Set {@code htmlText}. Simple markup (see {@link SimpleHtmlRenderer}) is rendered without {@link javafx.scene.web.WebView}.
 	 *
 	 * @param htmlText html content text
 	 *
@@ -17,15 +17,21 @@ package io.github.architekt1024.javafxhelper;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.TextInputDialog;
 import javafx.stage.Window;
 
+import io.github.architekt1024.javafxhelper.dialog.DialogProviders;
 import io.github.architekt1024.javafxhelper.dialog.DialogService;
+import io.github.architekt1024.javafxhelper.dialog.TextInputRequest;
+import io.github.architekt1024.javafxhelper.utils.AutoComplete;
+import io.github.architekt1024.javafxhelper.utils.SuggestionIndex;
 
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -80,16 +86,15 @@ public final class DialogFacade {
 	 * @return An {@link Optional} that contains the dialog result
 	 */
 	public static Optional<ButtonType> showDialog(@Nullable Alert.AlertType type, String title, String contentText, String headerText, Window parentWindow) {
-		Alert alert = new AlertBuilder(Objects.requireNonNullElse(type, Alert.AlertType.NONE))
+		AlertBuilder alert = new AlertBuilder(Objects.requireNonNullElse(type, Alert.AlertType.NONE))
 			.setTitle(title)
 			.setContentText(contentText)
 			.setHeaderText(headerText)
-			.setParentWindow(parentWindow)
-			.build();
+			.setParentWindow(parentWindow);
 		if (type == null || type == Alert.AlertType.NONE) {
-			alert.getDialogPane().getButtonTypes().add(ButtonType.OK);
+			alert.setButtons(ButtonType.OK);
 		}
-		return alert.showAndWait();
+		return alert.buildAndShow();
 	}
 
 	/**
@@ -173,6 +178,30 @@ public final class DialogFacade {
 		return showDialog(Alert.AlertType.ERROR, title, contentText, headerText, parentWindow);
 	}
 
+	/**
+	 * Create and show {@link javafx.scene.control.Alert.AlertType#ERROR} dialog with exception message. Stack trace is shown
+	 * in expandable details and formatted only when details are expanded.
+	 *
+	 * @param title        dialog title
+	 * @param throwable    exception to show, cannot be null
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @since 0.1.12
+	 */
+	public static Optional<ButtonType> showExceptionDialog(String title, @NotNull Throwable throwable, String headerText,
+														   Window parentWindow) {
+		return new AlertBuilder(Alert.AlertType.ERROR)
+			.setTitle(title)
+			.setContentText(Objects.requireNonNullElse(throwable.getLocalizedMessage(), throwable.getClass().getName()))
+			.setHeaderText(headerText)
+			.setParentWindow(parentWindow)
+			.setThrowable(throwable)
+			.buildAndShow();
+	}
+
 	/**
 	 * Create and show {@link javafx.scene.control.Alert.AlertType#CONFIRMATION} dialog with Yes/No buttons.
 	 *
@@ -203,8 +232,7 @@ public final class DialogFacade {
 			.setHeaderText(headerText)
 			.setParentWindow(parentWindow)
 			.setButtons(Buttons.YES_NO)
-			.build()
-			.showAndWait();
+			.buildAndShow();
 	}
 
 	/**
@@ -250,14 +278,40 @@ public final class DialogFacade {
 	 * @return An {@link Optional} that contains the dialog result
 	 */
 	public static Optional<String> showTextInputDialog(String title, String contentText, String headerText, Window parentWindow, String defaultValue) {
-		TextInputDialog dialog = new TextInputDialog(defaultValue);
-		dialog.setTitle(title);
-		if (headerText != null) {
-			dialog.setHeaderText(headerText);
-		}
-		dialog.setContentText(contentText);
-		dialog.initOwner(parentWindow);
-		return dialog.showAndWait();
+		return DialogProviders.get().showTextInput(new TextInputRequest()
+			.setTitle(title)
+			.setContentText(contentText)
+			.setHeaderText(headerText)
+			.setParentWindow(parentWindow)
+			.setDefaultValue(defaultValue));
+	}
+
+	/**
+	 * Create and show {@link TextInputDialog} dialog with suggestions. Suggestions are shown when index is ready.
+	 *
+	 * @param title          dialog title
+	 * @param contentText    text to show in the dialog content area
+	 * @param headerText     text to show in the dialog header area
+	 * @param parentWindow   specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param defaultValue   default value entered into the dialog
+	 * @param suggestions    suggestion index, for example {@link SuggestionIndex#buildAsync(java.util.Collection)}, cannot be null
+	 * @param maxSuggestions maximum number of shown suggestions
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @see AutoComplete
+	 * @since 0.1.12
+	 */
+	public static Optional<String> showTextInputDialog(String title, String contentText, String headerText, Window parentWindow,
+													  String defaultValue, @NotNull CompletionStage<SuggestionIndex> suggestions,
+													  int maxSuggestions) {
+		return DialogProviders.get().showTextInput(new TextInputRequest()
+			.setTitle(title)
+			.setContentText(contentText)
+			.setHeaderText(headerText)
+			.setParentWindow(parentWindow)
+			.setDefaultValue(defaultValue)
+			.setSuggestions(Objects.requireNonNull(suggestions), maxSuggestions));
 	}
 
 	/**
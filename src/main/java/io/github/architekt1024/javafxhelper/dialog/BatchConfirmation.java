@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Window;
+
+import io.github.architekt1024.javafxhelper.AlertBuilder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ask Yes/No question for many items at once. Dialog has additional "Yes to all" and "No to all" buttons, so user can decide about
+ * all remaining items with one click.
+ * <br>
+ * Example usage: <pre>{@code
+ * List<Boolean> decisions = BatchConfirmation.confirm(files, file -> "Delete " + file.getName() + "?", "Delete", null, stage);
+ * for (int i = 0; i < decisions.size(); i++) {
+ *     if (decisions.get(i)) {
+ *         //delete files.get(i)
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see DialogService#showBatchConfirmDialog(Collection, Function, String)
+ * @since 0.1.12
+ */
+public final class BatchConfirmation {
+	/**
+	 * Default "Yes to all" button
+	 *
+	 * @since 0.1.12
+	 */
+	public static final ButtonType YES_TO_ALL = new ButtonType("Yes to all", ButtonBar.ButtonData.YES);
+	/**
+	 * Default "No to all" button
+	 *
+	 * @since 0.1.12
+	 */
+	public static final ButtonType NO_TO_ALL = new ButtonType("No to all", ButtonBar.ButtonData.NO);
+
+	private static final ButtonType[] SINGLE_BUTTONS = {ButtonType.YES, ButtonType.NO, ButtonType.CANCEL};
+
+	private BatchConfirmation() {
+	}
+
+	/**
+	 * Show {@link javafx.scene.control.Alert.AlertType#CONFIRMATION} dialog for each item until user choose "Yes to all", "No to all"
+	 * or cancel. "to all" buttons are not shown for the last item.
+	 *
+	 * @param items        items to confirm, cannot be null
+	 * @param description  item description shown in the dialog content area, cannot be null
+	 * @param title        dialog title, number of item is appended
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param <T>          item type
+	 *
+	 * @return decisions in items order, {@code i}-th decision belongs to {@code i}-th item: {@code true} for yes, {@code false} for no.
+	 * When user cancels dialog, list contains only decisions of items before cancelled one
+	 *
+	 * @since 0.1.12
+	 */
+	public static <T> List<Boolean> confirm(@NotNull Collection<? extends T> items, @NotNull Function<? super T, String> description,
+											   @Nullable String title, @Nullable String headerText, @Nullable Window parentWindow) {
+		return confirm(items, description, title, headerText, parentWindow, YES_TO_ALL, NO_TO_ALL);
+	}
+
+	/**
+	 * Show {@link javafx.scene.control.Alert.AlertType#CONFIRMATION} dialog for each item until user choose "Yes to all", "No to all"
+	 * or cancel. "to all" buttons are not shown for the last item.
+	 *
+	 * @param items        items to confirm, cannot be null
+	 * @param description  item description shown in the dialog content area, cannot be null
+	 * @param title        dialog title, number of item is appended
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param yesToAllText text of "Yes to all" button, cannot be null
+	 * @param noToAllText  text of "No to all" button, cannot be null
+	 * @param <T>          item type
+	 *
+	 * @return decisions in items order, {@code i}-th decision belongs to {@code i}-th item: {@code true} for yes, {@code false} for no.
+	 * When user cancels dialog, list contains only decisions of items before cancelled one
+	 *
+	 * @since 0.1.12
+	 */
+	public static <T> List<Boolean> confirm(@NotNull Collection<? extends T> items, @NotNull Function<? super T, String> description,
+											   @Nullable String title, @Nullable String headerText, @Nullable Window parentWindow,
+											   @NotNull String yesToAllText, @NotNull String noToAllText) {
+		return confirm(items, description, title, headerText, parentWindow, new ButtonType(yesToAllText, ButtonBar.ButtonData.YES),
+			new ButtonType(noToAllText, ButtonBar.ButtonData.NO));
+	}
+
+	private static <T> List<Boolean> confirm(Collection<? extends T> items, Function<? super T, String> description, String title,
+											 String headerText, Window parentWindow, ButtonType yesToAll, ButtonType noToAll) {
+		Objects.requireNonNull(description);
+		final ButtonType[] batchButtons = {ButtonType.YES, yesToAll, ButtonType.NO, noToAll, ButtonType.CANCEL};
+		final List<T> list = new ArrayList<>(items);
+		final List<Boolean> decisions = new ArrayList<>(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			final T item = list.get(i);
+			final boolean last = i == list.size() - 1;
+			final Optional<ButtonType> answer = new AlertBuilder()
+				.setAlertType(Alert.AlertType.CONFIRMATION)
+				.setTitle(list.size() > 1 ? formatTitle(title, i + 1, list.size()) : title)
+				.setContentText(description.apply(item))
+				.setHeaderText(headerText)
+				.setParentWindow(parentWindow)
+				.setButtons(last ? SINGLE_BUTTONS : batchButtons)
+				.buildAndShow();
+			if (answer.isEmpty() || answer.get() == ButtonType.CANCEL) {
+				break;
+			}
+			final ButtonType button = answer.get();
+			if (isButton(button, yesToAll) || isButton(button, noToAll)) {
+				final Boolean decision = isButton(button, yesToAll);
+				for (int j = i; j < list.size(); j++) {
+					decisions.add(decision);
+				}
+				break;
+			}
+			decisions.add(button == ButtonType.YES);
+		}
+		return decisions;
+	}
+
+	private static boolean isButton(ButtonType button, ButtonType expected) {
+		// providers may answer with equal button instead of the same instance
+		return button == expected || button.getButtonData() == expected.getButtonData() && button.getText().equals(expected.getText());
+	}
+
+	private static String formatTitle(String title, int number, int count) {
+		final String counter = "(" + number + '/' + count + ')';
+		return title == null || title.isEmpty() ? counter : title + ' ' + counter;
+	}
+}
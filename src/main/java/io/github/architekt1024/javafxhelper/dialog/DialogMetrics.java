@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.time.Duration;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Timings of single modal dialog, reported to {@link DialogMetricsListener}.
+ *
+ * @author architekt1024
+ * @see DialogMonitor
+ * @since 0.1.12
+ */
+public final class DialogMetrics {
+	private final DialogRecord.Kind kind;
+	private final String title;
+	private final Duration constructionTime;
+	private final Duration timeToVisible;
+	private final Duration blockedTime;
+	private final Object result;
+	private final StackTraceElement callSite;
+	private final String threadName;
+
+	DialogMetrics(DialogRecord.Kind kind, String title, Duration constructionTime, Duration timeToVisible, Duration blockedTime,
+				  Object result, StackTraceElement callSite, String threadName) {
+		this.kind = kind;
+		this.title = title;
+		this.constructionTime = constructionTime;
+		this.timeToVisible = timeToVisible;
+		this.blockedTime = blockedTime;
+		this.result = result;
+		this.callSite = callSite;
+		this.threadName = threadName;
+	}
+
+	/**
+	 * Get dialog kind
+	 *
+	 * @return dialog kind
+	 *
+	 * @since 0.1.12
+	 */
+	public DialogRecord.Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Get dialog title
+	 *
+	 * @return dialog title
+	 *
+	 * @since 0.1.12
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Get time of creating dialog (building scene graph, loading content)
+	 *
+	 * @return construction time
+	 *
+	 * @since 0.1.12
+	 */
+	public Duration getConstructionTime() {
+		return constructionTime;
+	}
+
+	/**
+	 * Get time from request to dialog shown on screen
+	 *
+	 * @return time to visible, null if unknown (for example native file choosers)
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public Duration getTimeToVisible() {
+		return timeToVisible;
+	}
+
+	/**
+	 * Get time spent in {@code showAndWait} (calling thread is blocked)
+	 *
+	 * @return blocked time
+	 *
+	 * @since 0.1.12
+	 */
+	public Duration getBlockedTime() {
+		return blockedTime;
+	}
+
+	/**
+	 * Get dialog result: chosen {@link javafx.scene.control.ButtonType}, entered {@link String}, selected {@link java.io.File}
+	 * or progress result
+	 *
+	 * @return result, null if dialog was cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public Object getResult() {
+		return result;
+	}
+
+	/**
+	 * Get the first stack frame outside this library which requested the dialog
+	 *
+	 * @return call site, null if unknown
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public StackTraceElement getCallSite() {
+		return callSite;
+	}
+
+	/**
+	 * Get name of thread which requested the dialog
+	 *
+	 * @return thread name
+	 *
+	 * @since 0.1.12
+	 */
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@Override
+	public String toString() {
+		return kind + "[title=" + title + ", construction=" + constructionTime + ", visible=" + timeToVisible + ", blocked=" + blockedTime
+			+ ", result=" + result + ", callSite=" + callSite + ']';
+	}
+}
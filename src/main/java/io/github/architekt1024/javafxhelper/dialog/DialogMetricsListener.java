@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of dialog metrics.
+ *
+ * @author architekt1024
+ * @see DialogMonitor#addListener(DialogMetricsListener)
+ * @since 0.1.12
+ */
+@FunctionalInterface
+public interface DialogMetricsListener {
+	/**
+	 * Called after dialog is closed, on the thread which showed dialog (usually FX application thread).
+	 *
+	 * @param metrics dialog metrics
+	 *
+	 * @since 0.1.12
+	 */
+	void dialogClosed(@NotNull DialogMetrics metrics);
+}
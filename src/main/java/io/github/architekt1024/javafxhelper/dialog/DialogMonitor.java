@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collect timings of modal dialogs shown by {@link FxDialogProvider} ({@link DialogService},
+ * {@link io.github.architekt1024.javafxhelper.DialogFacade}, {@link FileDialog}). Measurement is disabled until the first listener
+ * is added.
+ * <br>
+ * Example usage: <pre>{@code
+ * DialogMonitor.addListener(metrics -> LOG.info("{} blocked {} at {}",
+ *     metrics.getTitle(), metrics.getBlockedTime(), metrics.getCallSite()));
+ * }</pre>
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class DialogMonitor {
+	private static final Logger LOG = LoggerFactory.getLogger(DialogMonitor.class);
+	private static final String LIBRARY_PACKAGE = "io.github.architekt1024.javafxhelper.";
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+	private static final List<DialogMetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+	private DialogMonitor() {
+	}
+
+	/**
+	 * Add listener
+	 *
+	 * @param listener listener, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public static void addListener(@NotNull DialogMetricsListener listener) {
+		LISTENERS.add(Objects.requireNonNull(listener));
+	}
+
+	/**
+	 * Remove listener
+	 *
+	 * @param listener listener
+	 *
+	 * @since 0.1.12
+	 */
+	public static void removeListener(@Nullable DialogMetricsListener listener) {
+		LISTENERS.remove(listener);
+	}
+
+	/**
+	 * Start measurement of dialog. Should be called before creating dialog.
+	 *
+	 * @param kind  dialog kind, cannot be null
+	 * @param title dialog title
+	 *
+	 * @return measurement, does nothing when no listener is registered
+	 *
+	 * @since 0.1.12
+	 */
+	public static Measurement start(@NotNull DialogRecord.Kind kind, @Nullable String title) {
+		if (LISTENERS.isEmpty()) {
+			return Measurement.DISABLED;
+		}
+		final StackTraceElement callSite = STACK_WALKER.walk(frames -> frames
+			.filter(frame -> !frame.getClassName().startsWith(LIBRARY_PACKAGE))
+			.findFirst()
+			.map(StackWalker.StackFrame::toStackTraceElement)
+			.orElse(null));
+		return new Measurement(kind, title, callSite);
+	}
+
+	private static void publish(DialogMetrics metrics) {
+		for (DialogMetricsListener listener : LISTENERS) {
+			try {
+				listener.dialogClosed(metrics);
+			} catch (RuntimeException e) {
+				LOG.warn("Dialog metrics listener failed", e);
+			}
+		}
+	}
+
+	/**
+	 * Measurement of single dialog
+	 *
+	 * @since 0.1.12
+	 */
+	public static final class Measurement {
+		private static final Measurement DISABLED = new Measurement(null, null, null);
+
+		private final DialogRecord.Kind kind;
+		private final String title;
+		private final StackTraceElement callSite;
+		private final long start;
+		private long constructed;
+		private long shown;
+
+		private Measurement(DialogRecord.Kind kind, String title, StackTraceElement callSite) {
+			this.kind = kind;
+			this.title = title;
+			this.callSite = callSite;
+			this.start = kind == null ? 0 : System.nanoTime();
+		}
+
+		/**
+		 * Mark dialog as created, just before {@code showAndWait} is called
+		 *
+		 * @since 0.1.12
+		 */
+		public void constructed() {
+			if (this != DISABLED) {
+				constructed = System.nanoTime();
+			}
+		}
+
+		/**
+		 * Mark dialog as shown on screen
+		 *
+		 * @since 0.1.12
+		 */
+		public void shown() {
+			if (this != DISABLED && shown == 0) {
+				shown = System.nanoTime();
+			}
+		}
+
+		/**
+		 * Finish measurement and notify listeners
+		 *
+		 * @param result dialog result, null if cancelled
+		 *
+		 * @since 0.1.12
+		 */
+		public void finished(@Nullable Object result) {
+			if (this == DISABLED) {
+				return;
+			}
+			final long end = System.nanoTime();
+			final long showStart = constructed == 0 ? start : constructed;
+			publish(new DialogMetrics(kind, title,
+				Duration.ofNanos(showStart - start),
+				shown == 0 ? null : Duration.ofNanos(shown - start),
+				Duration.ofNanos(end - showStart),
+				result, callSite, Thread.currentThread().getName()));
+		}
+	}
+}
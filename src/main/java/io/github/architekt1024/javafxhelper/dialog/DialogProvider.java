@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javafx.concurrent.Task;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Window;
+
+import io.github.architekt1024.javafxhelper.AlertBuilder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Service provider interface used by {@link DialogService}, {@link io.github.architekt1024.javafxhelper.DialogFacade},
+ * {@link AlertBuilder#buildAndShow()} and {@link FileDialog} to show dialogs. Default implementation is {@link FxDialogProvider}.
+ * Implementation can be replaced by {@link DialogProviders#set(DialogProvider)} or registered by {@link java.util.ServiceLoader}.
+ *
+ * @author architekt1024
+ * @see DialogProviders
+ * @see HeadlessDialogProvider
+ * @since 0.1.12
+ */
+public interface DialogProvider {
+	/**
+	 * Show alert and wait for user response
+	 *
+	 * @param alert alert definition, cannot be null
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @since 0.1.12
+	 */
+	Optional<ButtonType> showAlert(@NotNull AlertBuilder alert);
+
+	/**
+	 * Show text input dialog and wait for user response
+	 *
+	 * @param request dialog parameters, cannot be null
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @since 0.1.12
+	 */
+	Optional<String> showTextInput(@NotNull TextInputRequest request);
+
+	/**
+	 * Show file or directory chooser and wait for user response
+	 *
+	 * @param request dialog parameters, cannot be null
+	 *
+	 * @return optional selected file
+	 *
+	 * @since 0.1.12
+	 */
+	Optional<File> showFileDialog(@NotNull FileRequest request);
+
+	/**
+	 * Show file chooser with multiple selection ({@link FileRequest.Type#OPEN_MULTIPLE_FILES}) and wait for user response.
+	 * Default implementation shows single selection dialog.
+	 *
+	 * @param request dialog parameters, cannot be null
+	 *
+	 * @return selected files, empty if user cancel
+	 *
+	 * @since 0.1.12
+	 */
+	default List<File> showOpenMultipleDialog(@NotNull FileRequest request) {
+		return showFileDialog(request).map(Collections::singletonList).orElse(Collections.emptyList());
+	}
+
+	/**
+	 * Run task and show its progress
+	 *
+	 * @param task         task to run, cannot be null
+	 * @param title        dialog title
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param <T>          task result type
+	 *
+	 * @return task result, empty if task failed or was cancelled
+	 *
+	 * @see ProgressDialog
+	 * @since 0.1.12
+	 */
+	<T> Optional<T> showProgress(@NotNull Task<T> task, @Nullable String title, @Nullable String headerText, @Nullable Window parentWindow);
+
+	/**
+	 * Run operation and show its progress
+	 *
+	 * @param work         operation to run, cannot be null
+	 * @param title        dialog title
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 *
+	 * @return true if operation completed, false if it failed or was cancelled
+	 *
+	 * @see ProgressDialog
+	 * @since 0.1.12
+	 */
+	boolean showProgress(@NotNull Consumer<ProgressReporter> work, @Nullable String title, @Nullable String headerText,
+						 @Nullable Window parentWindow);
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holder of current {@link DialogProvider}. When provider is not set, the first implementation found by {@link ServiceLoader}
+ * is used, otherwise {@link FxDialogProvider}.
+ * <br>
+ * Example usage in tests: <pre>{@code
+ * HeadlessDialogProvider headless = new HeadlessDialogProvider()
+ *     .onAlert(Alert.AlertType.CONFIRMATION, "Delete.*", null, ButtonType.YES);
+ * DialogProviders.set(headless);
+ * }</pre>
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class DialogProviders {
+	private static volatile DialogProvider provider;
+
+	private DialogProviders() {
+	}
+
+	/**
+	 * Get current provider
+	 *
+	 * @return dialog provider
+	 *
+	 * @since 0.1.12
+	 */
+	public static DialogProvider get() {
+		DialogProvider result = provider;
+		if (result == null) {
+			synchronized (DialogProviders.class) {
+				result = provider;
+				if (result == null) {
+					result = ServiceLoader.load(DialogProvider.class).findFirst().orElseGet(FxDialogProvider::new);
+					provider = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Set current provider
+	 *
+	 * @param dialogProvider dialog provider, null to restore default provider
+	 *
+	 * @since 0.1.12
+	 */
+	public static void set(@Nullable DialogProvider dialogProvider) {
+		provider = dialogProvider;
+	}
+
+	/**
+	 * Run action with provider and restore previous provider.
+	 *
+	 * @param dialogProvider dialog provider, cannot be null
+	 * @param action         action to run, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public static void runWith(@NotNull DialogProvider dialogProvider, @NotNull Runnable action) {
+		final DialogProvider previous = provider;
+		provider = Objects.requireNonNull(dialogProvider);
+		try {
+			action.run();
+		} finally {
+			provider = previous;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import javafx.scene.control.Alert;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dialog request recorded by {@link HeadlessDialogProvider}.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class DialogRecord {
+	private final Kind kind;
+	private final Alert.AlertType alertType;
+	private final String title;
+	private final String headerText;
+	private final String contentText;
+	private final Object answer;
+	private final Instant startTime;
+	private final Duration duration;
+
+	DialogRecord(Kind kind, @Nullable Alert.AlertType alertType, @Nullable String title, @Nullable String headerText,
+				 @Nullable String contentText, @Nullable Object answer, Instant startTime, Duration duration) {
+		this.kind = kind;
+		this.alertType = alertType;
+		this.title = title;
+		this.headerText = headerText;
+		this.contentText = contentText;
+		this.answer = answer;
+		this.startTime = startTime;
+		this.duration = duration;
+	}
+
+	/**
+	 * Get dialog kind
+	 *
+	 * @return dialog kind
+	 *
+	 * @since 0.1.12
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Get alert type
+	 *
+	 * @return alert type, null if dialog is not alert
+	 *
+	 * @since 0.1.12
+	 */
+	public Alert.AlertType getAlertType() {
+		return alertType;
+	}
+
+	/**
+	 * Get dialog title
+	 *
+	 * @return dialog title
+	 *
+	 * @since 0.1.12
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Get header text
+	 *
+	 * @return header text
+	 *
+	 * @since 0.1.12
+	 */
+	public String getHeaderText() {
+		return headerText;
+	}
+
+	/**
+	 * Get content text (HTML text for HTML alerts)
+	 *
+	 * @return content text
+	 *
+	 * @since 0.1.12
+	 */
+	public String getContentText() {
+		return contentText;
+	}
+
+	/**
+	 * Get answer returned to caller: {@link javafx.scene.control.ButtonType}, {@link String}, {@link java.io.File} or task result
+	 *
+	 * @return answer or null if dialog was cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	public Object getAnswer() {
+		return answer;
+	}
+
+	/**
+	 * Get request time
+	 *
+	 * @return request time
+	 *
+	 * @since 0.1.12
+	 */
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Get time spent in dialog request (including running progress task)
+	 *
+	 * @return request duration
+	 *
+	 * @since 0.1.12
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	@Override
+	public String toString() {
+		return kind + "[title=" + title + ", answer=" + answer + ", duration=" + duration + ']';
+	}
+
+	/**
+	 * Dialog kind
+	 *
+	 * @since 0.1.12
+	 */
+	public enum Kind {
+		/**
+		 * {@link Alert} dialog
+		 */
+		ALERT,
+		/**
+		 * Text input dialog
+		 */
+		TEXT_INPUT,
+		/**
+		 * File or directory chooser
+		 */
+		FILE,
+		/**
+		 * Progress dialog
+		 */
+		PROGRESS
+	}
+}
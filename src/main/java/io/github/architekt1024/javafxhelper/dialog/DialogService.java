@@ -16,8 +16,14 @@
 
 package io.github.architekt1024.javafxhelper.dialog;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.TextInputDialog;
@@ -25,8 +31,12 @@ import javafx.stage.Window;
 
 import io.github.architekt1024.javafxhelper.AlertBuilder;
 import io.github.architekt1024.javafxhelper.DialogFacade;
+import io.github.architekt1024.javafxhelper.utils.SuggestionIndex;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static io.github.architekt1024.javafxhelper.DialogFacade.Buttons.YES_NO;
 import static io.github.architekt1024.javafxhelper.DialogFacade.Buttons.YES_NO_CANCEL;
@@ -42,6 +52,8 @@ import static io.github.architekt1024.javafxhelper.DialogFacade.Buttons.YES_NO_C
  */
 @SuppressWarnings("ClassCanBeRecord")
 public class DialogService {
+	private static final Logger LOG = LoggerFactory.getLogger(DialogService.class);
+
 	private final Window parentWindow;
 	private final String title;
 
@@ -152,6 +164,35 @@ public class DialogService {
 		return showDialog(Alert.AlertType.ERROR, contentText, headerText);
 	}
 
+	/**
+	 * Create and show {@link javafx.scene.control.Alert.AlertType#ERROR} dialog with exception message. Stack trace is shown
+	 * in expandable details and formatted only when details are expanded.
+	 *
+	 * @param throwable exception to show, cannot be null
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @since 0.1.12
+	 */
+	public Optional<ButtonType> showErrorDialog(@NotNull Throwable throwable) {
+		return showErrorDialog(throwable, null);
+	}
+
+	/**
+	 * Create and show {@link javafx.scene.control.Alert.AlertType#ERROR} dialog with exception message. Stack trace is shown
+	 * in expandable details and formatted only when details are expanded.
+	 *
+	 * @param throwable  exception to show, cannot be null
+	 * @param headerText text to show in the dialog header area
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @since 0.1.12
+	 */
+	public Optional<ButtonType> showErrorDialog(@NotNull Throwable throwable, @Nullable String headerText) {
+		return DialogFacade.showExceptionDialog(title, throwable, headerText, parentWindow);
+	}
+
 	/**
 	 * Create and show {@link javafx.scene.control.Alert.AlertType#CONFIRMATION} dialog with Yes/No buttons.
 	 * <br>
@@ -196,15 +237,14 @@ public class DialogService {
 	 * @since 0.1.10
 	 */
 	public Optional<ButtonType> showYesNoConfirmDialog(@Nullable String contentText, @Nullable String headerText) {
-		Alert alert = new AlertBuilder()
+		return new AlertBuilder()
 			.setAlertType(Alert.AlertType.CONFIRMATION)
 			.setTitle(title)
 			.setContentText(contentText)
 			.setHeaderText(headerText)
 			.setParentWindow(parentWindow)
 			.setButtons(YES_NO)
-			.build();
-		return alert.showAndWait();
+			.buildAndShow();
 	}
 
 	/**
@@ -249,6 +289,24 @@ public class DialogService {
 		return DialogFacade.showTextInputDialog(title, contentText, headerText, parentWindow, defaultValue);
 	}
 
+	/**
+	 * Create and show {@link TextInputDialog} dialog with suggestions. Suggestions are shown when index is ready.
+	 *
+	 * @param contentText    text to show in the dialog content area
+	 * @param headerText     text to show in the dialog header area
+	 * @param defaultValue   default value entered into the dialog
+	 * @param suggestions    suggestion index, for example {@link SuggestionIndex#buildAsync(java.util.Collection)}, cannot be null
+	 * @param maxSuggestions maximum number of shown suggestions
+	 *
+	 * @return An {@link Optional} that contains the dialog result
+	 *
+	 * @since 0.1.12
+	 */
+	public Optional<String> showTextInputDialog(@Nullable String contentText, @Nullable String headerText, @Nullable String defaultValue,
+												@NotNull CompletionStage<SuggestionIndex> suggestions, int maxSuggestions) {
+		return DialogFacade.showTextInputDialog(title, contentText, headerText, parentWindow, defaultValue, suggestions, maxSuggestions);
+	}
+
 	/**
 	 * Create and show {@link javafx.scene.control.Alert.AlertType#CONFIRMATION} dialog with Yes, No, Cancel buttons.
 	 *
@@ -282,4 +340,78 @@ public class DialogService {
 			.setButtons(YES_NO_CANCEL)
 			.buildAndShow();
 	}
+
+	/**
+	 * Ask Yes/No question for each item, with "Yes to all" and "No to all" buttons.
+	 *
+	 * @param items       items to confirm, cannot be null
+	 * @param description item description shown in the dialog content area, cannot be null
+	 * @param headerText  text to show in the dialog header area
+	 * @param <T>         item type
+	 *
+	 * @return decisions in items order, only decisions of items before cancel
+	 *
+	 * @see BatchConfirmation
+	 * @since 0.1.12
+	 */
+	public <T> List<Boolean> showBatchConfirmDialog(@NotNull Collection<? extends T> items,
+													  @NotNull Function<? super T, String> description, @Nullable String headerText) {
+		return BatchConfirmation.confirm(items, description, title, headerText, parentWindow);
+	}
+
+	/**
+	 * Show progress of {@link Task} and wait until task is done or cancelled by user. Task is started if it is not running yet.
+	 *
+	 * @param task       task to run, cannot be null
+	 * @param headerText text to show in the dialog header area
+	 * @param <T>        task result type
+	 *
+	 * @return task result, empty if task failed or was cancelled
+	 *
+	 * @see ProgressDialog
+	 * @since 0.1.12
+	 */
+	public <T> Optional<T> showProgressDialog(@NotNull Task<T> task, @Nullable String headerText) {
+		return DialogProviders.get().showProgress(task, title, headerText, parentWindow);
+	}
+
+	/**
+	 * Run operation in background, show its progress and wait until operation is done or cancelled by user.
+	 *
+	 * @param work       operation to run, reports progress with {@link ProgressReporter}, cannot be null
+	 * @param headerText text to show in the dialog header area
+	 *
+	 * @return true if operation completed, false if it failed or was cancelled
+	 *
+	 * @see ProgressDialog
+	 * @since 0.1.12
+	 */
+	public boolean showProgressDialog(@NotNull Consumer<ProgressReporter> work, @Nullable String headerText) {
+		return DialogProviders.get().showProgress(work, title, headerText, parentWindow);
+	}
+
+	/**
+	 * Show non-modal notification in the parent window (or the focused window if parent window is null, then method must be called
+	 * on FX application thread). Unlike
+	 * {@link #showInfoDialog(String)} it does not block the caller. For null {@code type} will be used
+	 * {@link javafx.scene.control.Alert.AlertType#NONE}
+	 *
+	 * @param type        notification type
+	 * @param contentText message
+	 *
+	 * @see NotificationService
+	 * @since 0.1.12
+	 */
+	public void showNotification(@Nullable Alert.AlertType type, @Nullable String contentText) {
+		Window owner = parentWindow;
+		if (owner == null) {
+			owner = Window.getWindows().stream().filter(Window::isFocused).findFirst()
+				.orElseGet(() -> Window.getWindows().stream().filter(Window::isShowing).findFirst().orElse(null));
+		}
+		if (owner == null) {
+			LOG.warn("No window to show notification: {}", contentText);
+			return;
+		}
+		NotificationService.of(owner).show(type, contentText);
+	}
 }
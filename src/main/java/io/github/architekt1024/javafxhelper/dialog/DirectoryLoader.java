@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Read directory with {@link DirectoryStream} and publish entries in batches. Runs on background thread, consumers are called on the
+ * same thread.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+final class DirectoryLoader implements Runnable {
+	static final int BATCH_SIZE = 1000;
+	static final long BATCH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final Path directory;
+	private final Predicate<FileEntry> filter;
+	private final Callback callback;
+	private volatile boolean cancelled;
+
+	/**
+	 * @param directory directory to read
+	 * @param filter    entries filter, not accepted entries are skipped
+	 * @param callback  receives batches
+	 */
+	DirectoryLoader(Path directory, Predicate<FileEntry> filter, Callback callback) {
+		this.directory = directory;
+		this.filter = filter;
+		this.callback = callback;
+	}
+
+	@Override
+	public void run() {
+		List<FileEntry> batch = new ArrayList<>();
+		long lastPublish = System.nanoTime();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+			for (Path path : stream) {
+				if (cancelled) {
+					return;
+				}
+				final FileEntry entry = new FileEntry(path, Files.isDirectory(path));
+				if (filter.test(entry)) {
+					batch.add(entry);
+				}
+				if (batch.size() >= BATCH_SIZE || (!batch.isEmpty() && System.nanoTime() - lastPublish >= BATCH_INTERVAL_NANOS)) {
+					callback.loaded(batch, false);
+					batch = new ArrayList<>();
+					lastPublish = System.nanoTime();
+				}
+			}
+		} catch (IOException e) {
+			if (!cancelled) {
+				callback.failed(e);
+			}
+			return;
+		}
+		if (!cancelled) {
+			callback.loaded(batch, true);
+		}
+	}
+
+	/**
+	 * Stop reading, no more batches will be published
+	 */
+	void cancel() {
+		cancelled = true;
+	}
+
+	boolean isCancelled() {
+		return cancelled;
+	}
+
+	Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Receives loaded entries
+	 */
+	interface Callback {
+		/**
+		 * Called with next batch
+		 *
+		 * @param entries  entries
+		 * @param complete true for the last batch (may be empty)
+		 */
+		void loaded(List<FileEntry> entries, boolean complete);
+
+		/**
+		 * Called when directory cannot be read
+		 *
+		 * @param e exception
+		 */
+		void failed(IOException e);
+	}
+}
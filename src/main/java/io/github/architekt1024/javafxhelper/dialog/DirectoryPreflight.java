@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Check on background thread if initial directory of file dialog is reachable, so the native chooser does not hang FX application
+ * thread on dead network mounts. When directory does not respond within timeout, the nearest reachable parent, the last directory
+ * used for the same purpose or user home directory is used instead.
+ * <br>
+ * Example usage: <pre>{@code
+ * DirectoryPreflight.resolve(new File("//server/share/reports"), "reports")
+ *     .thenAcceptAsync(directory -> ..., Platform::runLater);
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see FileDialog#showFileDialogAsync(FileRequest)
+ * @since 0.1.12
+ */
+public final class DirectoryPreflight {
+	/**
+	 * Default time to wait for directory check
+	 *
+	 * @since 0.1.12
+	 */
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+
+	private static final Logger LOG = LoggerFactory.getLogger(DirectoryPreflight.class);
+	private static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		final Thread thread = new Thread(runnable, "directory-preflight");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final Map<String, File> LAST_DIRECTORIES = new ConcurrentHashMap<>();
+	private static final Map<File, CompletableFuture<Boolean>> RUNNING_CHECKS = new ConcurrentHashMap<>();
+
+	private DirectoryPreflight() {
+	}
+
+	/**
+	 * Find reachable initial directory with {@link #DEFAULT_TIMEOUT}
+	 *
+	 * @param directory requested directory, null if not set
+	 * @param purpose   dialog purpose, null if not set
+	 *
+	 * @return future completed with reachable directory, empty if there is no candidate
+	 *
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Optional<File>> resolve(@Nullable File directory, @Nullable String purpose) {
+		return resolve(directory, purpose, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Find reachable initial directory. Candidates in order: requested directory, its parents, the last directory used for purpose and
+	 * user home directory. All candidates are checked at once, the first reachable one is used. After timeout the best candidate
+	 * checked so far is used.
+	 *
+	 * @param directory requested directory, null if not set
+	 * @param purpose   dialog purpose, null if not set
+	 * @param timeout   maximum time to wait, cannot be null
+	 *
+	 * @return future completed with reachable directory, empty if there is no candidate
+	 *
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Optional<File>> resolve(@Nullable File directory, @Nullable String purpose, @NotNull Duration timeout) {
+		return resolve(candidates(directory, purpose), timeout, DirectoryPreflight::check);
+	}
+
+	/**
+	 * Remember directory used for purpose
+	 *
+	 * @param purpose   dialog purpose, ignored if null
+	 * @param directory directory, ignored if null
+	 *
+	 * @since 0.1.12
+	 */
+	public static void remember(@Nullable String purpose, @Nullable File directory) {
+		if (purpose != null && directory != null) {
+			LAST_DIRECTORIES.put(purpose, directory);
+		}
+	}
+
+	/**
+	 * Get the last directory used for purpose
+	 *
+	 * @param purpose dialog purpose
+	 *
+	 * @return the last directory
+	 *
+	 * @since 0.1.12
+	 */
+	public static Optional<File> getLastDirectory(@Nullable String purpose) {
+		return purpose == null ? Optional.empty() : Optional.ofNullable(LAST_DIRECTORIES.get(purpose));
+	}
+
+	static List<File> candidates(File directory, String purpose) {
+		final Set<File> candidates = new LinkedHashSet<>();
+		for (File file = directory == null ? null : directory.getAbsoluteFile(); file != null; file = file.getParentFile()) {
+			candidates.add(file);
+		}
+		getLastDirectory(purpose).ifPresent(candidates::add);
+		if (!candidates.isEmpty()) {
+			candidates.add(new File(System.getProperty("user.home")));
+		}
+		return new ArrayList<>(candidates);
+	}
+
+	static CompletableFuture<Optional<File>> resolve(List<File> candidates, Duration timeout,
+													 Function<File, CompletableFuture<Boolean>> check) {
+		Objects.requireNonNull(timeout);
+		if (candidates.isEmpty()) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+		final CompletableFuture<Optional<File>> result = new CompletableFuture<>();
+		final List<CompletableFuture<Boolean>> checks = new ArrayList<>(candidates.size());
+		for (File candidate : candidates) {
+			checks.add(check.apply(candidate));
+		}
+		for (CompletableFuture<Boolean> future : checks) {
+			future.whenComplete((reachable, throwable) -> select(candidates, checks, result, false));
+		}
+		CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+			.execute(() -> select(candidates, checks, result, true));
+		return result;
+	}
+
+	private static void select(List<File> candidates, List<CompletableFuture<Boolean>> checks, CompletableFuture<Optional<File>> result,
+							   boolean timedOut) {
+		if (result.isDone()) {
+			return;
+		}
+		for (int i = 0; i < checks.size(); i++) {
+			final CompletableFuture<Boolean> check = checks.get(i);
+			if (!check.isDone()) {
+				if (!timedOut) {
+					return;
+				}
+				LOG.warn("Directory {} not reachable in time", candidates.get(i));
+			} else if (!check.isCompletedExceptionally() && Boolean.TRUE.equals(check.join())) {
+				result.complete(Optional.of(candidates.get(i)));
+				return;
+			}
+		}
+		result.complete(Optional.empty());
+	}
+
+	private static CompletableFuture<Boolean> check(File directory) {
+		final CompletableFuture<Boolean> created = new CompletableFuture<>();
+		final CompletableFuture<Boolean> running = RUNNING_CHECKS.putIfAbsent(directory, created);
+		if (running != null) {
+			// do not start another thread for directory which is still hanging
+			return running;
+		}
+		EXECUTOR.execute(() -> {
+			try {
+				final Path path = directory.toPath();
+				final boolean reachable = Files.isDirectory(path) && Files.isReadable(path);
+				RUNNING_CHECKS.remove(directory, created);
+				created.complete(reachable);
+			} catch (RuntimeException e) {
+				RUNNING_CHECKS.remove(directory, created);
+				created.completeExceptionally(e);
+			}
+		});
+		return created;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.time.Duration;
+
+/**
+ * Estimate remaining time from progress. Uses exponential moving average of work rate.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+final class EtaEstimator {
+	private static final double SMOOTHING = 0.2;
+	private static final long MIN_SAMPLE_NANOS = 200_000_000L;
+
+	private final long startNanos;
+	private long lastNanos;
+	private double lastFraction;
+	private double rate = -1;
+
+	EtaEstimator(long startNanos) {
+		this.startNanos = startNanos;
+		this.lastNanos = startNanos;
+	}
+
+	/**
+	 * Add progress sample
+	 *
+	 * @param fraction   progress 0..1
+	 * @param nanoTime   sample time
+	 */
+	void update(double fraction, long nanoTime) {
+		final long elapsed = nanoTime - lastNanos;
+		if (fraction <= lastFraction || elapsed < MIN_SAMPLE_NANOS) {
+			return;
+		}
+		final double sampleRate = (fraction - lastFraction) / elapsed;
+		rate = rate < 0 ? (fraction / (nanoTime - startNanos)) : (SMOOTHING * sampleRate + (1 - SMOOTHING) * rate);
+		lastFraction = fraction;
+		lastNanos = nanoTime;
+	}
+
+	/**
+	 * Get estimated remaining time
+	 *
+	 * @return remaining time or null if unknown
+	 */
+	Duration getRemaining() {
+		if (rate <= 0 || lastFraction <= 0) {
+			return null;
+		}
+		return Duration.ofNanos((long) ((1 - lastFraction) / rate));
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javafx.stage.FileChooser;
+
+/**
+ * Precompiled matcher of {@link javafx.stage.FileChooser.ExtensionFilter}. Simple {@code *.ext} patterns are checked with
+ * {@link String#endsWith(String)}, other patterns with glob {@link PathMatcher}.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+final class ExtensionFilterMatcher {
+	static final ExtensionFilterMatcher ALL = new ExtensionFilterMatcher(true, new String[0], List.of());
+
+	private final boolean all;
+	private final String[] suffixes;
+	private final List<PathMatcher> globs;
+
+	private ExtensionFilterMatcher(boolean all, String[] suffixes, List<PathMatcher> globs) {
+		this.all = all;
+		this.suffixes = suffixes;
+		this.globs = globs;
+	}
+
+	/**
+	 * Compile extension filter
+	 *
+	 * @param filter extension filter, null matches all files
+	 *
+	 * @return matcher
+	 */
+	static ExtensionFilterMatcher of(FileChooser.ExtensionFilter filter) {
+		return filter == null ? ALL : of(filter.getExtensions());
+	}
+
+	static ExtensionFilterMatcher of(List<String> extensions) {
+		final List<String> suffixes = new ArrayList<>();
+		final List<PathMatcher> globs = new ArrayList<>();
+		for (String extension : extensions) {
+			if ("*".equals(extension) || "*.*".equals(extension)) {
+				return ALL;
+			}
+			final String suffix = extension.substring(1);
+			if (extension.startsWith("*.") && suffix.indexOf('*') < 0 && suffix.indexOf('?') < 0 && suffix.indexOf('[') < 0
+				&& suffix.indexOf('{') < 0) {
+				suffixes.add(suffix.toLowerCase(Locale.ROOT));
+			} else {
+				globs.add(FileSystems.getDefault().getPathMatcher("glob:" + extension));
+			}
+		}
+		return new ExtensionFilterMatcher(false, suffixes.toArray(new String[0]), List.copyOf(globs));
+	}
+
+	/**
+	 * Check file name
+	 *
+	 * @param fileName file name
+	 *
+	 * @return true if file name matches any pattern
+	 */
+	boolean matches(String fileName) {
+		if (all) {
+			return true;
+		}
+		final String lowerCase = fileName.toLowerCase(Locale.ROOT);
+		for (String suffix : suffixes) {
+			if (lowerCase.endsWith(suffix)) {
+				return true;
+			}
+		}
+		if (!globs.isEmpty()) {
+			final Path path = Path.of(fileName);
+			for (PathMatcher glob : globs) {
+				if (glob.matches(path)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.event.ActionEvent;
+import javafx.geometry.Insets;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
+
+import io.github.architekt1024.javafxhelper.AlertBuilder;
+import io.github.architekt1024.javafxhelper.listview.ReadOnlyStringConverter;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static io.github.architekt1024.javafxhelper.DialogFacade.Buttons.YES_NO;
+
+/**
+ * JavaFX file browser for directories with many thousands of files, alternative to native choosers used by {@link FileDialog}.
+ * <br>
+ * Directory is read with {@link java.nio.file.DirectoryStream} on background thread and entries are added to a virtualized
+ * {@link ListView} in batches. Sorting and filtering run off the FX application thread, extension filters are compiled once.
+ * Unreachable directories do not block the FX application thread.
+ *
+ * @author architekt1024
+ * @see FileBrowserDialogProvider
+ * @since 0.1.12
+ */
+public final class FileBrowserDialog {
+	private static final Logger LOG = LoggerFactory.getLogger(FileBrowserDialog.class);
+	private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		final Thread thread = new Thread(runnable, "file-browser");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final double CELL_SIZE = 24;
+	private static final double WIDTH = 640;
+	private static final double HEIGHT = 480;
+	private static final Duration SEARCH_DELAY = Duration.millis(150);
+
+	private final FileRequest request;
+	private final Dialog<List<File>> dialog = new Dialog<>();
+	private final TextField pathField = new TextField();
+	private final TextField searchField = new TextField();
+	private final TextField fileNameField = new TextField();
+	private final ComboBox<FileChooser.ExtensionFilter> filterBox = new ComboBox<>();
+	private final ListView<FileEntry> listView = new ListView<>();
+	private final Label statusLabel = new Label();
+	private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
+	private final AtomicInteger generation = new AtomicInteger();
+	private final List<FileEntry> loaded = new ArrayList<>();
+	private volatile Predicate<FileEntry> viewFilter = entry -> true;
+	private DirectoryLoader loader;
+	private Path currentDirectory;
+
+	private FileBrowserDialog(FileRequest request) {
+		this.request = request;
+		dialog.setTitle(request.getTitle() != null ? request.getTitle() : defaultTitle(request.getType()));
+		dialog.initOwner(request.getParentWindow());
+		dialog.setResizable(true);
+		dialog.getDialogPane().setPrefSize(WIDTH, HEIGHT);
+		dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+		dialog.getDialogPane().setContent(createContent());
+		dialog.setResultConverter(buttonType -> buttonType == ButtonType.OK ? getSelectedFiles() : null);
+		dialog.setOnHidden(event -> cancelLoading());
+		final Button okButton = (Button) dialog.getDialogPane().lookupButton(ButtonType.OK);
+		okButton.disableProperty().bind(Bindings.createBooleanBinding(() -> getSelectedFiles().isEmpty(),
+			listView.getSelectionModel().getSelectedItems(), fileNameField.textProperty(), pathField.textProperty()));
+		if (request.getType() == FileRequest.Type.SAVE_FILE) {
+			okButton.addEventFilter(ActionEvent.ACTION, event -> {
+				if (!confirmOverwrite()) {
+					event.consume();
+				}
+			});
+		}
+		if (request.getType() == FileRequest.Type.OPEN_MULTIPLE_FILES) {
+			listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+		}
+	}
+
+	/**
+	 * Show file browser and wait for user choice.
+	 *
+	 * @param request dialog parameters, cannot be null
+	 *
+	 * @return optional selected file
+	 *
+	 * @since 0.1.12
+	 */
+	public static Optional<File> showAndWait(@NotNull FileRequest request) {
+		return show(request).stream().findFirst();
+	}
+
+	/**
+	 * Show file browser with multiple selection and wait for user choice.
+	 *
+	 * @param request dialog parameters, cannot be null; type is ignored
+	 *
+	 * @return selected files, empty if user cancel
+	 *
+	 * @since 0.1.12
+	 */
+	public static List<File> showOpenMultipleDialog(@NotNull FileRequest request) {
+		final FileRequest multipleRequest = new FileRequest(FileRequest.Type.OPEN_MULTIPLE_FILES)
+			.setParentWindow(request.getParentWindow())
+			.setTitle(request.getTitle())
+			.setInitialDirectory(request.getInitialDirectory())
+			.setPurpose(request.getPurpose())
+			.setRecentFiles(request.getRecentFiles());
+		multipleRequest.setExtensionFilters(request.getExtensionFilters().toArray(new FileChooser.ExtensionFilter[0]));
+		return show(multipleRequest);
+	}
+
+	private static List<File> show(FileRequest request) {
+		final FileBrowserDialog fileBrowser = new FileBrowserDialog(Objects.requireNonNull(request));
+		final File initialDirectory = request.getInitialDirectory() != null ? request.getInitialDirectory()
+			: new File(System.getProperty("user.home"));
+		fileBrowser.fileNameField.setText(request.getInitialFileName() != null ? request.getInitialFileName() : "");
+		fileBrowser.navigate(initialDirectory.toPath().toAbsolutePath());
+		return fileBrowser.dialog.showAndWait().orElse(Collections.emptyList());
+	}
+
+	private VBox createContent() {
+		final Button upButton = new Button("Up");
+		upButton.setOnAction(event -> {
+			if (currentDirectory != null && currentDirectory.getParent() != null) {
+				navigate(currentDirectory.getParent());
+			}
+		});
+		pathField.setOnAction(event -> {
+			try {
+				navigate(Path.of(pathField.getText()).toAbsolutePath());
+			} catch (InvalidPathException e) {
+				statusLabel.setText(e.getMessage());
+			}
+		});
+		HBox.setHgrow(pathField, Priority.ALWAYS);
+		final HBox pathBox = new HBox(5, upButton, pathField);
+		if (!request.getRecentFiles().isEmpty()) {
+			final ComboBox<File> recentBox = new ComboBox<>();
+			recentBox.setPromptText("Recent");
+			recentBox.getItems().setAll(request.getRecentFiles());
+			recentBox.setOnAction(event -> openRecent(recentBox.getValue()));
+			pathBox.getChildren().add(recentBox);
+		}
+
+		searchField.setPromptText("Search");
+		searchDelay.setOnFinished(event -> refresh());
+		searchField.textProperty().addListener((observable, oldValue, newValue) -> searchDelay.playFromStart());
+		HBox.setHgrow(searchField, Priority.ALWAYS);
+		final HBox searchBox = new HBox(5, searchField);
+		if (request.getType() != FileRequest.Type.OPEN_DIRECTORY && !request.getExtensionFilters().isEmpty()) {
+			filterBox.getItems().setAll(request.getExtensionFilters());
+			filterBox.setConverter(new ReadOnlyStringConverter<>(FileChooser.ExtensionFilter::getDescription));
+			filterBox.getSelectionModel().selectFirst();
+			filterBox.valueProperty().addListener((observable, oldValue, newValue) -> refresh());
+			searchBox.getChildren().add(filterBox);
+		}
+
+		listView.setFixedCellSize(CELL_SIZE);
+		listView.setCellFactory(param -> new ListCell<>() {
+			@Override
+			protected void updateItem(FileEntry item, boolean empty) {
+				super.updateItem(item, empty);
+				setText(empty || item == null ? null : item.isDirectory() ? item.getName() + File.separator : item.getName());
+			}
+		});
+		listView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
+			if (newValue != null && !newValue.isDirectory() && request.getType() == FileRequest.Type.SAVE_FILE) {
+				fileNameField.setText(newValue.getName());
+			}
+		});
+		listView.setOnMouseClicked(event -> {
+			if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+				open(listView.getSelectionModel().getSelectedItem());
+			}
+		});
+		listView.setOnKeyPressed(event -> {
+			if (event.getCode() == KeyCode.ENTER) {
+				open(listView.getSelectionModel().getSelectedItem());
+			}
+		});
+		VBox.setVgrow(listView, Priority.ALWAYS);
+
+		final VBox content = new VBox(5, pathBox, searchBox, listView);
+		if (request.getType() == FileRequest.Type.SAVE_FILE) {
+			fileNameField.setPromptText("File name");
+			content.getChildren().add(fileNameField);
+		}
+		content.getChildren().add(statusLabel);
+		content.setPadding(new Insets(5));
+		return content;
+	}
+
+	private void open(FileEntry entry) {
+		if (entry == null) {
+			return;
+		}
+		if (entry.isDirectory()) {
+			navigate(entry.getPath());
+		} else if (isOpenFile()) {
+			dialog.setResult(List.of(entry.getPath().toFile()));
+			dialog.close();
+		}
+	}
+
+	private void openRecent(File file) {
+		if (file == null) {
+			return;
+		}
+		if (isOpenFile()) {
+			dialog.setResult(List.of(file));
+			dialog.close();
+		} else if (request.getType() == FileRequest.Type.OPEN_DIRECTORY) {
+			navigate(file.toPath().toAbsolutePath());
+		} else if (file.getParentFile() != null) {
+			fileNameField.setText(file.getName());
+			navigate(file.getParentFile().toPath().toAbsolutePath());
+		}
+	}
+
+	private boolean confirmOverwrite() {
+		final List<File> files = getSelectedFiles();
+		if (files.isEmpty() || !files.get(0).exists()) {
+			return true;
+		}
+		return new AlertBuilder()
+			.setAlertType(Alert.AlertType.CONFIRMATION)
+			.setTitle(dialog.getTitle())
+			.setHeaderText(files.get(0).getName() + " already exists.")
+			.setContentText("Do you want to replace it?")
+			.setParentWindow(dialog.getDialogPane().getScene().getWindow())
+			.setButtons(YES_NO)
+			.buildAndShow()
+			.filter(ButtonType.YES::equals)
+			.isPresent();
+	}
+
+	private boolean isOpenFile() {
+		return request.getType() == FileRequest.Type.OPEN_FILE || request.getType() == FileRequest.Type.OPEN_MULTIPLE_FILES;
+	}
+
+	private List<File> getSelectedFiles() {
+		if (currentDirectory == null) {
+			return Collections.emptyList();
+		}
+		final FileEntry selected = listView.getSelectionModel().getSelectedItem();
+		switch (request.getType()) {
+			case OPEN_DIRECTORY:
+				return List.of(selected != null && selected.isDirectory() ? selected.getPath().toFile() : currentDirectory.toFile());
+			case SAVE_FILE:
+				final String fileName = fileNameField.getText().trim();
+				return fileName.isEmpty() ? Collections.emptyList() : List.of(currentDirectory.resolve(fileName).toFile());
+			default:
+				final List<File> files = new ArrayList<>();
+				for (FileEntry entry : listView.getSelectionModel().getSelectedItems()) {
+					if (!entry.isDirectory()) {
+						files.add(entry.getPath().toFile());
+					}
+				}
+				return files;
+		}
+	}
+
+	private void navigate(Path directory) {
+		cancelLoading();
+		currentDirectory = directory;
+		pathField.setText(directory.toString());
+		loaded.clear();
+		listView.getItems().clear();
+		statusLabel.setText("Loading...");
+		updateViewFilter();
+		final boolean directoriesOnly = request.getType() == FileRequest.Type.OPEN_DIRECTORY;
+		final LoadCallback callback = new LoadCallback();
+		callback.loader = new DirectoryLoader(directory, entry -> !directoriesOnly || entry.isDirectory(), callback);
+		loader = callback.loader;
+		EXECUTOR.execute(callback.loader);
+	}
+
+	private void appendBatch(DirectoryLoader batchLoader, List<FileEntry> entries, List<FileEntry> visible, Predicate<FileEntry> filter,
+							 boolean complete) {
+		if (batchLoader != loader || batchLoader.isCancelled()) {
+			return;
+		}
+		loaded.addAll(entries);
+		if (filter == viewFilter) {
+			listView.getItems().addAll(visible);
+		} else {
+			for (FileEntry entry : entries) {
+				if (viewFilter.test(entry)) {
+					listView.getItems().add(entry);
+				}
+			}
+		}
+		if (complete) {
+			loader = null;
+			refresh();
+		} else {
+			statusLabel.setText("Loading... " + loaded.size() + " items");
+		}
+	}
+
+	private void updateViewFilter() {
+		final ExtensionFilterMatcher matcher = ExtensionFilterMatcher.of(filterBox.getValue());
+		final String search = searchField.getText() == null ? "" : searchField.getText().trim().toLowerCase(Locale.ROOT);
+		viewFilter = entry -> (entry.isDirectory() || matcher.matches(entry.getName())) && entry.getSortKey().contains(search);
+	}
+
+	/**
+	 * Filter and sort loaded entries on background thread
+	 */
+	private void refresh() {
+		updateViewFilter();
+		final Predicate<FileEntry> filter = viewFilter;
+		final int id = generation.incrementAndGet();
+		final List<FileEntry> snapshot = new ArrayList<>(loaded);
+		final DirectoryLoader snapshotLoader = loader;
+		EXECUTOR.execute(() -> {
+			final List<FileEntry> result = new ArrayList<>();
+			for (FileEntry entry : snapshot) {
+				if (filter.test(entry)) {
+					result.add(entry);
+				}
+			}
+			result.sort(FileEntry.DIRECTORIES_FIRST);
+			Platform.runLater(() -> {
+				if (id != generation.get() || snapshotLoader != loader) {
+					return;
+				}
+				for (int i = snapshot.size(); i < loaded.size(); i++) {
+					if (filter.test(loaded.get(i))) {
+						result.add(loaded.get(i));
+					}
+				}
+				listView.getItems().setAll(result);
+				if (loader == null) {
+					statusLabel.setText(result.size() + " of " + loaded.size() + " items");
+				}
+			});
+		});
+	}
+
+	private void cancelLoading() {
+		generation.incrementAndGet();
+		if (loader != null) {
+			loader.cancel();
+			loader = null;
+		}
+	}
+
+	/**
+	 * Passes batches of one {@link DirectoryLoader} to FX application thread
+	 */
+	private final class LoadCallback implements DirectoryLoader.Callback {
+		private DirectoryLoader loader;
+
+		@Override
+		public void loaded(List<FileEntry> entries, boolean complete) {
+			final Predicate<FileEntry> filter = viewFilter;
+			final List<FileEntry> visible = new ArrayList<>(entries.size());
+			for (FileEntry entry : entries) {
+				if (filter.test(entry)) {
+					visible.add(entry);
+				}
+			}
+			Platform.runLater(() -> appendBatch(loader, entries, visible, filter, complete));
+		}
+
+		@Override
+		public void failed(IOException e) {
+			LOG.debug("Cannot read directory {}", loader.getDirectory(), e);
+			Platform.runLater(() -> {
+				if (loader == FileBrowserDialog.this.loader) {
+					FileBrowserDialog.this.loader = null;
+					statusLabel.setText("Cannot read directory: " + e.getMessage());
+				}
+			});
+		}
+	}
+
+	private static String defaultTitle(FileRequest.Type type) {
+		switch (type) {
+			case OPEN_DIRECTORY:
+				return "Select directory";
+			case SAVE_FILE:
+				return "Save";
+			default:
+				return "Open";
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link FxDialogProvider} which shows {@link FileBrowserDialog} instead of native file choosers. Use it when users open directories
+ * with very many files or slow network shares.
+ * <br>
+ * Example usage: <pre>{@code
+ * DialogProviders.set(new FileBrowserDialogProvider());
+ * FileDialog.showOpenFileDialog(stage, directory, filters);
+ * }</pre>
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public class FileBrowserDialogProvider extends FxDialogProvider {
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<File> showFileDialog(@NotNull FileRequest request) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.FILE, request.getTitle());
+		final Optional<File> selectedFile = FileBrowserDialog.showAndWait(request);
+		measurement.finished(selectedFile.orElse(null));
+		return selectedFile;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<File> showOpenMultipleDialog(@NotNull FileRequest request) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.FILE, request.getTitle());
+		final List<File> selectedFiles = FileBrowserDialog.showOpenMultipleDialog(request);
+		measurement.finished(selectedFiles);
+		return selectedFiles;
+	}
+}
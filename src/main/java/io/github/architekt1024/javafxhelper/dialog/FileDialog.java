@@ -16,32 +16,54 @@
 package io.github.architekt1024.javafxhelper.dialog;
 
 import java.io.File;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
-import javafx.stage.DirectoryChooser;
+import javafx.application.Platform;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
- * Show open/save file dialogs.
+ * Show open/save file dialogs. Dialogs are shown by current {@link DialogProvider}.
  *
  * @author architekt1024
  * @since 0.1.11
  */
 public final class FileDialog {
-	private static final Logger LOG = LoggerFactory.getLogger(FileDialog.class);
-	private static final String CANCEL_CLICKED_MSG = "cancel clicked";
+	private static volatile RecentFiles recentFiles;
 
 	private FileDialog() {
 	}
 
+	/**
+	 * Set recent files index. Selected files are added to index, recent files are passed to {@link DialogProvider} in
+	 * {@link FileRequest#getRecentFiles()} and asynchronous dialogs start in the directory of the most recent file.
+	 *
+	 * @param recentFiles recent files index, null to disable
+	 *
+	 * @since 0.1.12
+	 */
+	public static void setRecentFiles(@Nullable RecentFiles recentFiles) {
+		FileDialog.recentFiles = recentFiles;
+	}
+
+	/**
+	 * Get recent files index
+	 *
+	 * @return recent files index, null if not set
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public static RecentFiles getRecentFiles() {
+		return recentFiles;
+	}
+
 	/**
 	 * Show open file dialog
 	 *
@@ -96,20 +118,52 @@ public final class FileDialog {
 	 * @since 0.1.11
 	 */
 	public static Optional<File> showOpenFileDialog(@Nullable Stage stage, @Nullable File initialDirectory, @Nullable FileChooser.ExtensionFilter... extensionFilters) {
-		final FileChooser fileChooser = new FileChooser();
-		if (initialDirectory != null) {
-			fileChooser.setInitialDirectory(initialDirectory);
-		}
-		if (extensionFilters != null) {
-			fileChooser.getExtensionFilters().addAll(Arrays.stream(extensionFilters)
-				.filter(Objects::nonNull)
-				.collect(Collectors.toList()));
+		return show(new FileRequest(FileRequest.Type.OPEN_FILE)
+			.setParentWindow(stage)
+			.setInitialDirectory(initialDirectory)
+			.setExtensionFilters(extensionFilters));
+	}
+
+	/**
+	 * Show open file dialog with multiple selection
+	 *
+	 * @param stage the owner window of the displayed file dialog
+	 *
+	 * @return selected files, empty if user cancel
+	 *
+	 * @since 0.1.12
+	 */
+	public static FileSelection showOpenMultipleDialog(@Nullable Stage stage) {
+		return showOpenMultipleDialog(stage, null, (FileChooser.ExtensionFilter) null);
+	}
+
+	/**
+	 * Show open file dialog with multiple selection. Attributes of selected files can be loaded in background with
+	 * {@link FileSelection#getMetadata()}.
+	 *
+	 * @param stage            the owner window of the displayed file dialog
+	 * @param initialDirectory initial directory, null if not set
+	 * @param extensionFilters extension filters
+	 *
+	 * @return selected files, empty if user cancel
+	 *
+	 * @since 0.1.12
+	 */
+	public static FileSelection showOpenMultipleDialog(@Nullable Stage stage, @Nullable File initialDirectory,
+													   @Nullable FileChooser.ExtensionFilter... extensionFilters) {
+		final FileRequest request = new FileRequest(FileRequest.Type.OPEN_MULTIPLE_FILES)
+			.setParentWindow(stage)
+			.setInitialDirectory(initialDirectory)
+			.setExtensionFilters(extensionFilters);
+		final RecentFiles recent = recentFiles;
+		if (recent != null) {
+			request.setRecentFiles(recent.getRecent(request.getPurpose()));
 		}
-		final File selectedFile = fileChooser.showOpenDialog(stage);
-		if (selectedFile == null) {
-			LOG.debug(CANCEL_CLICKED_MSG);
+		final List<File> selectedFiles = DialogProviders.get().showOpenMultipleDialog(request);
+		if (recent != null && !selectedFiles.isEmpty()) {
+			recent.add(request.getPurpose(), selectedFiles.get(0));
 		}
-		return Optional.ofNullable(selectedFile);
+		return new FileSelection(selectedFiles);
 	}
 
 	/**
@@ -138,19 +192,10 @@ public final class FileDialog {
 	 * @since 0.1.11
 	 */
 	public static Optional<File> showOpenDirectoryDialog(@Nullable Stage stage, @Nullable File initialDirectory, @Nullable String title) {
-		DirectoryChooser directoryChooser = new DirectoryChooser();
-		if ((initialDirectory != null)) {
-			directoryChooser.setInitialDirectory(initialDirectory);
-		}
-		if (title != null) {
-			directoryChooser.setTitle(title);
-		}
-
-		File selectedDirectory = directoryChooser.showDialog(stage);
-		if (selectedDirectory == null) {
-			LOG.debug(CANCEL_CLICKED_MSG);
-		}
-		return Optional.ofNullable(selectedDirectory);
+		return show(new FileRequest(FileRequest.Type.OPEN_DIRECTORY)
+			.setParentWindow(stage)
+			.setInitialDirectory(initialDirectory)
+			.setTitle(title));
 	}
 
 	/**
@@ -163,12 +208,7 @@ public final class FileDialog {
 	 * @since 0.1.11
 	 */
 	public static Optional<File> showSaveDialog(@Nullable Stage stage) {
-		FileChooser fileChooser = new FileChooser();
-		File selectedFile = fileChooser.showSaveDialog(stage);
-		if (selectedFile == null) {
-			LOG.debug(CANCEL_CLICKED_MSG);
-		}
-		return Optional.ofNullable(selectedFile);
+		return showSaveDialog(stage, null);
 	}
 
 	/**
@@ -182,12 +222,76 @@ public final class FileDialog {
 	 * @since 0.1.11
 	 */
 	public static Optional<File> showSaveDialog(@Nullable Stage stage, @Nullable String initialFileName) {
-		FileChooser fileChooser = new FileChooser();
-		fileChooser.setInitialFileName(initialFileName);
-		File selectedFile = fileChooser.showSaveDialog(stage);
-		if (selectedFile == null) {
-			LOG.debug(CANCEL_CLICKED_MSG);
+		return show(new FileRequest(FileRequest.Type.SAVE_FILE)
+			.setParentWindow(stage)
+			.setInitialFileName(initialFileName));
+	}
+
+	/**
+	 * Show open file dialog after checking initial directory on background thread. Can be called from any thread.
+	 *
+	 * @param stage            the owner window of the displayed file dialog
+	 * @param initialDirectory initial directory, null if not set
+	 * @param purpose          key under which the last used directory is remembered, null if not set
+	 * @param extensionFilters extension filters
+	 *
+	 * @return future completed on FX application thread with optional selected file
+	 *
+	 * @see DirectoryPreflight
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Optional<File>> showOpenFileDialogAsync(@Nullable Stage stage, @Nullable File initialDirectory,
+																			@Nullable String purpose,
+																			@Nullable FileChooser.ExtensionFilter... extensionFilters) {
+		return showFileDialogAsync(new FileRequest(FileRequest.Type.OPEN_FILE)
+			.setParentWindow(stage)
+			.setInitialDirectory(initialDirectory)
+			.setPurpose(purpose)
+			.setExtensionFilters(extensionFilters));
+	}
+
+	/**
+	 * Show file dialog after checking initial directory on background thread. When initial directory is not reachable
+	 * ({@link DirectoryPreflight}), reachable parent or the last directory used for {@link FileRequest#getPurpose()} is used.
+	 * Without initial directory the directory of the most recent file ({@link #setRecentFiles(RecentFiles)}) is used.
+	 * Directory of selected file is remembered for purpose. Can be called from any thread.
+	 *
+	 * @param request dialog parameters, cannot be null
+	 *
+	 * @return future completed on FX application thread with optional selected file
+	 *
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Optional<File>> showFileDialogAsync(@NotNull FileRequest request) {
+		File initialDirectory = request.getInitialDirectory();
+		final RecentFiles recent = recentFiles;
+		if (initialDirectory == null && recent != null) {
+			initialDirectory = recent.getRecent(request.getPurpose()).stream()
+				.map(file -> request.getType() == FileRequest.Type.OPEN_DIRECTORY ? file : file.getParentFile())
+				.filter(Objects::nonNull)
+				.findFirst()
+				.orElse(null);
+		}
+		return DirectoryPreflight.resolve(initialDirectory, request.getPurpose())
+			.thenApplyAsync(directory -> {
+				request.setInitialDirectory(directory.orElse(null));
+				final Optional<File> selectedFile = show(request);
+				selectedFile.ifPresent(file -> DirectoryPreflight.remember(request.getPurpose(),
+					request.getType() == FileRequest.Type.OPEN_DIRECTORY ? file : file.getParentFile()));
+				return selectedFile;
+			}, Platform::runLater);
+	}
+
+	private static Optional<File> show(FileRequest request) {
+		final RecentFiles recent = recentFiles;
+		if (recent == null) {
+			return DialogProviders.get().showFileDialog(request);
+		}
+		if (request.getRecentFiles().isEmpty()) {
+			request.setRecentFiles(recent.getRecent(request.getPurpose()));
 		}
-		return Optional.ofNullable(selectedFile);
+		final Optional<File> selectedFile = DialogProviders.get().showFileDialog(request);
+		selectedFile.ifPresent(file -> recent.add(request.getPurpose(), file));
+		return selectedFile;
 	}
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Directory entry shown by {@link FileBrowserDialog}.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+final class FileEntry {
+	static final Comparator<FileEntry> DIRECTORIES_FIRST = Comparator.comparing((FileEntry entry) -> !entry.directory)
+		.thenComparing(entry -> entry.sortKey);
+
+	private final Path path;
+	private final String name;
+	private final String sortKey;
+	private final boolean directory;
+
+	FileEntry(Path path, boolean directory) {
+		this.path = path;
+		this.name = path.getFileName() == null ? path.toString() : path.getFileName().toString();
+		this.sortKey = name.toLowerCase(Locale.ROOT);
+		this.directory = directory;
+	}
+
+	Path getPath() {
+		return path;
+	}
+
+	String getName() {
+		return name;
+	}
+
+	String getSortKey() {
+		return sortKey;
+	}
+
+	boolean isDirectory() {
+		return directory;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
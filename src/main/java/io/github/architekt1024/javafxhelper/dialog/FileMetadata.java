@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Attributes of selected file, loaded by {@link FileSelection}.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class FileMetadata {
+	private final File file;
+	private final long size;
+	private final Instant lastModified;
+	private final boolean directory;
+	private final String contentType;
+	private final IOException error;
+
+	FileMetadata(File file, long size, Instant lastModified, boolean directory, String contentType, IOException error) {
+		this.file = file;
+		this.size = size;
+		this.lastModified = lastModified;
+		this.directory = directory;
+		this.contentType = contentType;
+		this.error = error;
+	}
+
+	/**
+	 * Get file
+	 *
+	 * @return file
+	 *
+	 * @since 0.1.12
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Get file size in bytes
+	 *
+	 * @return file size, -1 if attributes cannot be read
+	 *
+	 * @since 0.1.12
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Get last modification time
+	 *
+	 * @return last modification time, null if attributes cannot be read
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public Instant getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Check if file is directory
+	 *
+	 * @return true if file is directory
+	 *
+	 * @since 0.1.12
+	 */
+	public boolean isDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Get content type probed by {@link java.nio.file.Files#probeContentType(java.nio.file.Path)}
+	 *
+	 * @return MIME content type, null if unknown
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Get error thrown while reading attributes
+	 *
+	 * @return error, null if attributes were read
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public IOException getError() {
+		return error;
+	}
+
+	@Override
+	public String toString() {
+		return "FileMetadata[file=" + file + ", size=" + size + ", lastModified=" + lastModified + ", contentType=" + contentType + ']';
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javafx.stage.FileChooser;
+import javafx.stage.Window;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parameters of file or directory chooser shown by {@link DialogProvider}.
+ *
+ * @author architekt1024
+ * @see DialogProvider#showFileDialog(FileRequest)
+ * @see FileDialog
+ * @since 0.1.12
+ */
+public class FileRequest {
+	private final Type type;
+	private Window parentWindow;
+	private String title;
+	private File initialDirectory;
+	private String initialFileName;
+	private String purpose;
+	private List<FileChooser.ExtensionFilter> extensionFilters = Collections.emptyList();
+	private List<File> recentFiles = Collections.emptyList();
+
+	/**
+	 * Create request
+	 *
+	 * @param type dialog type, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public FileRequest(@NotNull Type type) {
+		this.type = Objects.requireNonNull(type);
+	}
+
+	/**
+	 * Get {@code type}
+	 *
+	 * @return dialog type
+	 *
+	 * @since 0.1.12
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Get {@code parentWindow}
+	 *
+	 * @return owner window
+	 *
+	 * @since 0.1.12
+	 */
+	public Window getParentWindow() {
+		return parentWindow;
+	}
+
+	/**
+	 * Set {@code parentWindow}
+	 *
+	 * @param parentWindow the owner window of the displayed file dialog
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public FileRequest setParentWindow(@Nullable Window parentWindow) {
+		this.parentWindow = parentWindow;
+		return this;
+	}
+
+	/**
+	 * Get {@code title}
+	 *
+	 * @return dialog title
+	 *
+	 * @since 0.1.12
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Set {@code title}
+	 *
+	 * @param title dialog title, null if not set
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public FileRequest setTitle(@Nullable String title) {
+		this.title = title;
+		return this;
+	}
+
+	/**
+	 * Get {@code initialDirectory}
+	 *
+	 * @return initial directory
+	 *
+	 * @since 0.1.12
+	 */
+	public File getInitialDirectory() {
+		return initialDirectory;
+	}
+
+	/**
+	 * Set {@code initialDirectory}
+	 *
+	 * @param initialDirectory initial directory, null if not set
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public FileRequest setInitialDirectory(@Nullable File initialDirectory) {
+		this.initialDirectory = initialDirectory;
+		return this;
+	}
+
+	/**
+	 * Get {@code initialFileName}
+	 *
+	 * @return initial file name
+	 *
+	 * @since 0.1.12
+	 */
+	public String getInitialFileName() {
+		return initialFileName;
+	}
+
+	/**
+	 * Set {@code initialFileName}
+	 *
+	 * @param initialFileName initial file name, null if not set
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public FileRequest setInitialFileName(@Nullable String initialFileName) {
+		this.initialFileName = initialFileName;
+		return this;
+	}
+
+	/**
+	 * Get {@code purpose}
+	 *
+	 * @return dialog purpose
+	 *
+	 * @since 0.1.12
+	 */
+	public String getPurpose() {
+		return purpose;
+	}
+
+	/**
+	 * Set {@code purpose}, a key (e.g. {@code "import"}, {@code "export-csv"}) under which the last used directory is remembered
+	 *
+	 * @param purpose dialog purpose, null if not set
+	 *
+	 * @return this request
+	 *
+	 * @see DirectoryPreflight
+	 * @since 0.1.12
+	 */
+	public FileRequest setPurpose(@Nullable String purpose) {
+		this.purpose = purpose;
+		return this;
+	}
+
+	/**
+	 * Get {@code extensionFilters}
+	 *
+	 * @return unmodifiable list of extension filters
+	 *
+	 * @since 0.1.12
+	 */
+	public List<FileChooser.ExtensionFilter> getExtensionFilters() {
+		return extensionFilters;
+	}
+
+	/**
+	 * Set {@code extensionFilters}. Null filters are ignored.
+	 *
+	 * @param extensionFilters extension filters
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public FileRequest setExtensionFilters(@Nullable FileChooser.ExtensionFilter... extensionFilters) {
+		if (extensionFilters == null) {
+			this.extensionFilters = Collections.emptyList();
+		} else {
+			this.extensionFilters = Arrays.stream(extensionFilters)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableList());
+		}
+		return this;
+	}
+
+	/**
+	 * Get {@code recentFiles}
+	 *
+	 * @return unmodifiable list of recent files, most recent first
+	 *
+	 * @since 0.1.12
+	 */
+	public List<File> getRecentFiles() {
+		return recentFiles;
+	}
+
+	/**
+	 * Set {@code recentFiles} which provider may offer to user. Native choosers ignore them.
+	 *
+	 * @param recentFiles recent files, most recent first
+	 *
+	 * @return this request
+	 *
+	 * @see RecentFiles
+	 * @since 0.1.12
+	 */
+	public FileRequest setRecentFiles(@Nullable List<File> recentFiles) {
+		this.recentFiles = recentFiles == null ? Collections.emptyList() : List.copyOf(recentFiles);
+		return this;
+	}
+
+	/**
+	 * File dialog type
+	 *
+	 * @since 0.1.12
+	 */
+	public enum Type {
+		/**
+		 * Open file dialog
+		 */
+		OPEN_FILE,
+		/**
+		 * Open directory dialog
+		 */
+		OPEN_DIRECTORY,
+		/**
+		 * Save file dialog
+		 */
+		SAVE_FILE,
+		/**
+		 * Open multiple files dialog
+		 */
+		OPEN_MULTIPLE_FILES
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Files selected in multiple selection dialog. Attributes of files are loaded on first {@link #getMetadata()} call, in parallel on
+ * background threads, so the FX application thread never reads them one by one.
+ * <br>
+ * Example usage: <pre>{@code
+ * FileSelection selection = FileDialog.showOpenMultipleDialog(stage, null, filters);
+ * selection.getMetadata().thenAcceptAsync(metadata -> table.getItems().setAll(metadata), Platform::runLater);
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see FileDialog#showOpenMultipleDialog(javafx.stage.Stage, File, javafx.stage.FileChooser.ExtensionFilter...)
+ * @since 0.1.12
+ */
+public final class FileSelection {
+	static final int PARALLELISM = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+	private static final int MIN_CHUNK_SIZE = 64;
+	private static final Executor EXECUTOR = Executors.newFixedThreadPool(PARALLELISM, runnable -> {
+		final Thread thread = new Thread(runnable, "file-metadata");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final List<File> files;
+	private CompletableFuture<List<FileMetadata>> metadata;
+
+	/**
+	 * Create selection
+	 *
+	 * @param files selected files, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public FileSelection(@NotNull List<File> files) {
+		this.files = List.copyOf(files);
+	}
+
+	/**
+	 * Get selected files
+	 *
+	 * @return unmodifiable list of files
+	 *
+	 * @since 0.1.12
+	 */
+	public List<File> getFiles() {
+		return files;
+	}
+
+	/**
+	 * Check if user selected no file (or cancelled dialog)
+	 *
+	 * @return true if selection is empty
+	 *
+	 * @since 0.1.12
+	 */
+	public boolean isEmpty() {
+		return files.isEmpty();
+	}
+
+	/**
+	 * Get number of selected files
+	 *
+	 * @return number of files
+	 *
+	 * @since 0.1.12
+	 */
+	public int size() {
+		return files.size();
+	}
+
+	/**
+	 * Get attributes of all files. Loading starts on the first call, next calls return the same future.
+	 *
+	 * @return future completed with metadata in files order
+	 *
+	 * @since 0.1.12
+	 */
+	public synchronized CompletableFuture<List<FileMetadata>> getMetadata() {
+		if (metadata == null) {
+			metadata = load(files);
+		}
+		return metadata;
+	}
+
+	private static CompletableFuture<List<FileMetadata>> load(List<File> files) {
+		if (files.isEmpty()) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+		final int chunkSize = Math.max(MIN_CHUNK_SIZE, (files.size() + PARALLELISM - 1) / PARALLELISM);
+		final List<CompletableFuture<List<FileMetadata>>> chunks = new ArrayList<>();
+		for (int from = 0; from < files.size(); from += chunkSize) {
+			final List<File> chunk = files.subList(from, Math.min(files.size(), from + chunkSize));
+			chunks.add(CompletableFuture.supplyAsync(() -> {
+				final List<FileMetadata> result = new ArrayList<>(chunk.size());
+				for (File file : chunk) {
+					result.add(read(file));
+				}
+				return result;
+			}, EXECUTOR));
+		}
+		return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+			final List<FileMetadata> result = new ArrayList<>(files.size());
+			for (CompletableFuture<List<FileMetadata>> chunk : chunks) {
+				result.addAll(chunk.join());
+			}
+			return Collections.unmodifiableList(result);
+		});
+	}
+
+	static FileMetadata read(File file) {
+		Objects.requireNonNull(file);
+		final Path path = file.toPath();
+		try {
+			final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			final String contentType = attributes.isRegularFile() ? Files.probeContentType(path) : null;
+			return new FileMetadata(file, attributes.size(), attributes.lastModifiedTime().toInstant(), attributes.isDirectory(),
+				contentType, null);
+		} catch (IOException e) {
+			return new FileMetadata(file, -1, null, false, null, e);
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javafx.concurrent.Task;
+import javafx.event.EventHandler;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.DialogEvent;
+import javafx.scene.control.TextInputDialog;
+import javafx.stage.DirectoryChooser;
+import javafx.stage.FileChooser;
+import javafx.stage.Window;
+
+import io.github.architekt1024.javafxhelper.AlertBuilder;
+import io.github.architekt1024.javafxhelper.utils.AutoComplete;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link DialogProvider}, shows JavaFX dialogs and native file choosers. Timings are reported to {@link DialogMonitor}.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public class FxDialogProvider implements DialogProvider {
+	private static final Logger LOG = LoggerFactory.getLogger(FxDialogProvider.class);
+	private static final String CANCEL_CLICKED_MSG = "cancel clicked";
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<ButtonType> showAlert(@NotNull AlertBuilder alert) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.ALERT, alert.getTitle());
+		final Alert dialog = alert.build();
+		return showAndWait(dialog, measurement);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<String> showTextInput(@NotNull TextInputRequest request) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.TEXT_INPUT, request.getTitle());
+		TextInputDialog dialog = new TextInputDialog(request.getDefaultValue());
+		dialog.setTitle(request.getTitle());
+		if (request.getHeaderText() != null) {
+			dialog.setHeaderText(request.getHeaderText());
+		}
+		dialog.setContentText(request.getContentText());
+		dialog.initOwner(request.getParentWindow());
+		if (request.getSuggestions() != null) {
+			AutoComplete.install(dialog.getEditor(), request.getSuggestions(), request.getMaxSuggestions());
+		}
+		return showAndWait(dialog, measurement);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<File> showFileDialog(@NotNull FileRequest request) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.FILE, request.getTitle());
+		final File selectedFile;
+		if (request.getType() == FileRequest.Type.OPEN_DIRECTORY) {
+			final DirectoryChooser directoryChooser = createDirectoryChooser(request);
+			measurement.constructed();
+			selectedFile = directoryChooser.showDialog(request.getParentWindow());
+		} else {
+			final FileChooser fileChooser = createFileChooser(request);
+			measurement.constructed();
+			if (request.getType() == FileRequest.Type.SAVE_FILE) {
+				selectedFile = fileChooser.showSaveDialog(request.getParentWindow());
+			} else {
+				selectedFile = fileChooser.showOpenDialog(request.getParentWindow());
+			}
+		}
+		measurement.finished(selectedFile);
+		if (selectedFile == null) {
+			LOG.debug(CANCEL_CLICKED_MSG);
+		}
+		return Optional.ofNullable(selectedFile);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<File> showOpenMultipleDialog(@NotNull FileRequest request) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.FILE, request.getTitle());
+		final FileChooser fileChooser = createFileChooser(request);
+		measurement.constructed();
+		final List<File> selectedFiles = fileChooser.showOpenMultipleDialog(request.getParentWindow());
+		measurement.finished(selectedFiles);
+		if (selectedFiles == null) {
+			LOG.debug(CANCEL_CLICKED_MSG);
+			return Collections.emptyList();
+		}
+		return selectedFiles;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> Optional<T> showProgress(@NotNull Task<T> task, @Nullable String title, @Nullable String headerText,
+										@Nullable Window parentWindow) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.PROGRESS, title);
+		final Optional<T> result = ProgressDialog.showAndWait(task, title, headerText, parentWindow);
+		measurement.finished(result.orElse(null));
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean showProgress(@NotNull Consumer<ProgressReporter> work, @Nullable String title, @Nullable String headerText,
+								@Nullable Window parentWindow) {
+		final DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.PROGRESS, title);
+		final boolean completed = ProgressDialog.showAndWait(work, title, headerText, parentWindow);
+		measurement.finished(completed);
+		return completed;
+	}
+
+	private static <R> Optional<R> showAndWait(Dialog<R> dialog, DialogMonitor.Measurement measurement) {
+		measurement.constructed();
+		final EventHandler<DialogEvent> onShown = dialog.getOnShown();
+		dialog.setOnShown(event -> {
+			measurement.shown();
+			if (onShown != null) {
+				onShown.handle(event);
+			}
+		});
+		final Optional<R> result = dialog.showAndWait();
+		measurement.finished(result.orElse(null));
+		return result;
+	}
+
+	/**
+	 * Create file chooser
+	 *
+	 * @param request dialog parameters
+	 *
+	 * @return configured file chooser
+	 *
+	 * @since 0.1.12
+	 */
+	protected FileChooser createFileChooser(@NotNull FileRequest request) {
+		final FileChooser fileChooser = new FileChooser();
+		if (request.getTitle() != null) {
+			fileChooser.setTitle(request.getTitle());
+		}
+		if (request.getInitialDirectory() != null) {
+			fileChooser.setInitialDirectory(request.getInitialDirectory());
+		}
+		fileChooser.setInitialFileName(request.getInitialFileName());
+		fileChooser.getExtensionFilters().addAll(request.getExtensionFilters());
+		return fileChooser;
+	}
+
+	/**
+	 * Create directory chooser
+	 *
+	 * @param request dialog parameters
+	 *
+	 * @return configured directory chooser
+	 *
+	 * @since 0.1.12
+	 */
+	protected DirectoryChooser createDirectoryChooser(@NotNull FileRequest request) {
+		final DirectoryChooser directoryChooser = new DirectoryChooser();
+		if (request.getInitialDirectory() != null) {
+			directoryChooser.setInitialDirectory(request.getInitialDirectory());
+		}
+		if (request.getTitle() != null) {
+			directoryChooser.setTitle(request.getTitle());
+		}
+		return directoryChooser;
+	}
+}
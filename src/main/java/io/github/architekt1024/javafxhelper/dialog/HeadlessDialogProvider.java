@@ -0,0 +1,337 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Window;
+
+import io.github.architekt1024.javafxhelper.AlertBuilder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DialogProvider} for automated tests. Never opens a window, answers from scripted rules and records every dialog request.
+ * Rules are checked in the order of adding, the first matching rule is used. Patterns are regular expressions matching the whole text,
+ * {@code null} pattern matches any text. When no rule matches, dialog is treated as cancelled (empty result).
+ * <br>
+ * Progress operations are run on the calling thread. Running {@link Task} requires initialized JavaFX toolkit.
+ * <br>
+ * Example usage: <pre>{@code
+ * HeadlessDialogProvider headless = new HeadlessDialogProvider()
+ *     .onAlert(Alert.AlertType.CONFIRMATION, "Delete.*", null, ButtonType.YES)
+ *     .onTextInput(null, null, "customer-1")
+ *     .onFileDialog(FileRequest.Type.OPEN_FILE, null, new File("data.csv"));
+ * DialogProviders.set(headless);
+ * // run workflow
+ * List<DialogRecord> records = headless.getRecords();
+ * }</pre>
+ * This class is thread-safe.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public class HeadlessDialogProvider implements DialogProvider {
+	private static final Logger LOG = LoggerFactory.getLogger(HeadlessDialogProvider.class);
+
+	private final List<Rule> rules = new CopyOnWriteArrayList<>();
+	private final Queue<DialogRecord> records = new ConcurrentLinkedQueue<>();
+	private volatile boolean failOnUnmatched;
+
+	/**
+	 * Add rule for alerts
+	 *
+	 * @param alertType    alert type, null for any type
+	 * @param titleRegex   title pattern
+	 * @param contentRegex content text pattern
+	 * @param answer       button returned to caller, null to cancel dialog
+	 *
+	 * @return this provider
+	 *
+	 * @since 0.1.12
+	 */
+	public HeadlessDialogProvider onAlert(@Nullable Alert.AlertType alertType, @Nullable String titleRegex, @Nullable String contentRegex,
+										  @Nullable ButtonType answer) {
+		rules.add(new Rule(DialogRecord.Kind.ALERT, alertType, titleRegex, contentRegex, answer));
+		return this;
+	}
+
+	/**
+	 * Add rule for text input dialogs
+	 *
+	 * @param titleRegex   title pattern
+	 * @param contentRegex content text pattern
+	 * @param answer       text returned to caller, null to cancel dialog
+	 *
+	 * @return this provider
+	 *
+	 * @since 0.1.12
+	 */
+	public HeadlessDialogProvider onTextInput(@Nullable String titleRegex, @Nullable String contentRegex, @Nullable String answer) {
+		rules.add(new Rule(DialogRecord.Kind.TEXT_INPUT, null, titleRegex, contentRegex, answer));
+		return this;
+	}
+
+	/**
+	 * Add rule for file dialogs
+	 *
+	 * @param type       file dialog type, null for any type
+	 * @param titleRegex title pattern
+	 * @param answer     file returned to caller, null to cancel dialog
+	 *
+	 * @return this provider
+	 *
+	 * @since 0.1.12
+	 */
+	public HeadlessDialogProvider onFileDialog(@Nullable FileRequest.Type type, @Nullable String titleRegex, @Nullable File answer) {
+		rules.add(new Rule(DialogRecord.Kind.FILE, type, titleRegex, null, answer));
+		return this;
+	}
+
+	/**
+	 * Add rule for file dialogs with multiple selection
+	 *
+	 * @param titleRegex title pattern
+	 * @param answer     files returned to caller, null or empty to cancel dialog
+	 *
+	 * @return this provider
+	 *
+	 * @since 0.1.12
+	 */
+	public HeadlessDialogProvider onMultipleFileDialog(@Nullable String titleRegex, @Nullable List<File> answer) {
+		rules.add(new Rule(DialogRecord.Kind.FILE, FileRequest.Type.OPEN_MULTIPLE_FILES, titleRegex, null,
+			answer == null ? Collections.emptyList() : List.copyOf(answer)));
+		return this;
+	}
+
+	/**
+	 * Throw {@link IllegalStateException} when no rule matches request
+	 *
+	 * @param failOnUnmatched true to throw exception, false to cancel dialog
+	 *
+	 * @return this provider
+	 *
+	 * @since 0.1.12
+	 */
+	public HeadlessDialogProvider setFailOnUnmatched(boolean failOnUnmatched) {
+		this.failOnUnmatched = failOnUnmatched;
+		return this;
+	}
+
+	/**
+	 * Get recorded dialog requests
+	 *
+	 * @return copy of recorded requests in order of calls
+	 *
+	 * @since 0.1.12
+	 */
+	public List<DialogRecord> getRecords() {
+		return new ArrayList<>(records);
+	}
+
+	/**
+	 * Remove recorded requests
+	 *
+	 * @since 0.1.12
+	 */
+	public void clearRecords() {
+		records.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<ButtonType> showAlert(@NotNull AlertBuilder alert) {
+		final long start = System.nanoTime();
+		final Instant startTime = Instant.now();
+		final String content = alert.getContentText() != null ? alert.getContentText() : alert.getHtmlText();
+		final ButtonType answer = (ButtonType) answer(DialogRecord.Kind.ALERT, alert.getAlertType(), alert.getTitle(), content);
+		record(DialogRecord.Kind.ALERT, alert.getAlertType(), alert.getTitle(), alert.getHeaderText(), content, answer, startTime, start);
+		return Optional.ofNullable(answer);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<String> showTextInput(@NotNull TextInputRequest request) {
+		final long start = System.nanoTime();
+		final Instant startTime = Instant.now();
+		final String answer = (String) answer(DialogRecord.Kind.TEXT_INPUT, null, request.getTitle(), request.getContentText());
+		record(DialogRecord.Kind.TEXT_INPUT, null, request.getTitle(), request.getHeaderText(), request.getContentText(), answer,
+			startTime, start);
+		return Optional.ofNullable(answer);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<File> showFileDialog(@NotNull FileRequest request) {
+		final long start = System.nanoTime();
+		final Instant startTime = Instant.now();
+		final File answer = (File) answer(DialogRecord.Kind.FILE, request.getType(), request.getTitle(), null);
+		record(DialogRecord.Kind.FILE, null, request.getTitle(), null, null, answer, startTime, start);
+		return Optional.ofNullable(answer);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<File> showOpenMultipleDialog(@NotNull FileRequest request) {
+		final long start = System.nanoTime();
+		final Instant startTime = Instant.now();
+		final Object answer = answer(DialogRecord.Kind.FILE, request.getType(), request.getTitle(), null);
+		final List<File> files;
+		if (answer instanceof File) {
+			files = List.of((File) answer);
+		} else if (answer == null) {
+			files = Collections.emptyList();
+		} else {
+			@SuppressWarnings("unchecked")
+			final List<File> list = (List<File>) answer;
+			files = list;
+		}
+		record(DialogRecord.Kind.FILE, null, request.getTitle(), null, null, files, startTime, start);
+		return files;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> Optional<T> showProgress(@NotNull Task<T> task, @Nullable String title, @Nullable String headerText,
+										@Nullable Window parentWindow) {
+		final long start = System.nanoTime();
+		final Instant startTime = Instant.now();
+		if (task.getState() == Worker.State.READY) {
+			task.run();
+		}
+		T result = null;
+		try {
+			result = task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			// task failed or cancelled, result is empty
+		}
+		record(DialogRecord.Kind.PROGRESS, null, title, headerText, null, result, startTime, start);
+		return Optional.ofNullable(result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean showProgress(@NotNull Consumer<ProgressReporter> work, @Nullable String title, @Nullable String headerText,
+								@Nullable Window parentWindow) {
+		final long start = System.nanoTime();
+		final Instant startTime = Instant.now();
+		boolean completed = false;
+		try {
+			work.accept(NoOpReporter.INSTANCE);
+			completed = true;
+		} catch (RuntimeException e) {
+			LOG.warn("Operation failed", e);
+		}
+		record(DialogRecord.Kind.PROGRESS, null, title, headerText, null, completed, startTime, start);
+		return completed;
+	}
+
+	private Object answer(DialogRecord.Kind kind, Object type, String title, String content) {
+		for (Rule rule : rules) {
+			if (rule.matches(kind, type, title, content)) {
+				return rule.answer;
+			}
+		}
+		if (failOnUnmatched) {
+			throw new IllegalStateException("No rule for " + kind + " dialog, title: " + title + ", content: " + content);
+		}
+		return null;
+	}
+
+	private void record(DialogRecord.Kind kind, Alert.AlertType alertType, String title, String headerText, String contentText,
+						Object answer, Instant startTime, long startNanos) {
+		records.add(new DialogRecord(kind, alertType, title, headerText, contentText, answer, startTime,
+			Duration.ofNanos(System.nanoTime() - startNanos)));
+	}
+
+	private static final class Rule {
+		private final DialogRecord.Kind kind;
+		private final Object type;
+		private final Pattern title;
+		private final Pattern content;
+		private final Object answer;
+
+		private Rule(DialogRecord.Kind kind, Object type, String titleRegex, String contentRegex, Object answer) {
+			this.kind = kind;
+			this.type = type;
+			this.title = titleRegex == null ? null : Pattern.compile(titleRegex, Pattern.DOTALL);
+			this.content = contentRegex == null ? null : Pattern.compile(contentRegex, Pattern.DOTALL);
+			this.answer = answer;
+		}
+
+		private boolean matches(DialogRecord.Kind requestKind, Object requestType, String requestTitle, String requestContent) {
+			return kind == requestKind
+				&& (type == null || type == requestType)
+				&& matches(title, requestTitle)
+				&& matches(content, requestContent);
+		}
+
+		private static boolean matches(Pattern pattern, String text) {
+			return pattern == null || pattern.matcher(text == null ? "" : text).matches();
+		}
+	}
+
+	private enum NoOpReporter implements ProgressReporter {
+		INSTANCE;
+
+		@Override
+		public void updateProgress(double workDone, double max) {
+			// nothing to show
+		}
+
+		@Override
+		public void updateMessage(@Nullable String message) {
+			// nothing to show
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javafx.scene.control.Alert;
+
+/**
+ * Notifications waiting for display. Messages may be offered from any thread, other methods must be called from one thread
+ * (FX application thread). Duplicated messages (same type and text) are collapsed into one entry with counter.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+final class NotificationBuffer {
+	static final int MAX_PENDING = 100;
+
+	private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+	private final List<Entry> visible = new ArrayList<>();
+	private final Map<String, Entry> pending = new LinkedHashMap<>();
+	private final int maxVisible;
+	private final long durationNanos;
+	private int dropped;
+
+	NotificationBuffer(int maxVisible, long durationNanos) {
+		this.maxVisible = maxVisible;
+		this.durationNanos = durationNanos;
+	}
+
+	/**
+	 * Add message, thread-safe
+	 *
+	 * @param type    notification type
+	 * @param message message
+	 */
+	void offer(Alert.AlertType type, String message) {
+		incoming.add(new Entry(type == null ? Alert.AlertType.NONE : type, message == null ? "" : message));
+	}
+
+	/**
+	 * Move offered messages to visible or pending entries
+	 *
+	 * @param now current time in nanoseconds
+	 *
+	 * @return true if visible entries changed
+	 */
+	boolean drain(long now) {
+		boolean changed = false;
+		Entry entry;
+		while ((entry = incoming.poll()) != null) {
+			final Entry shown = findVisible(entry.key);
+			if (shown != null) {
+				shown.count++;
+				shown.expireAt = now + durationNanos;
+				changed = true;
+			} else {
+				final Entry waiting = pending.get(entry.key);
+				if (waiting != null) {
+					waiting.count++;
+				} else {
+					pending.put(entry.key, entry);
+					// fill free visible slots before dropping oldest pending message
+					changed |= promote(now);
+					trimPending();
+				}
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Remove expired entries and show pending
+	 *
+	 * @param now current time in nanoseconds
+	 *
+	 * @return true if visible entries changed
+	 */
+	boolean expire(long now) {
+		final boolean removed = visible.removeIf(entry -> entry.expireAt - now <= 0);
+		return promote(now) || removed;
+	}
+
+	/**
+	 * Remove visible entry (e.g. closed by user)
+	 *
+	 * @param entry entry
+	 * @param now   current time in nanoseconds
+	 */
+	void dismiss(Entry entry, long now) {
+		visible.remove(entry);
+		promote(now);
+	}
+
+	/**
+	 * Remove all visible and pending entries
+	 */
+	void clear() {
+		visible.clear();
+		pending.clear();
+	}
+
+	private boolean promote(long now) {
+		boolean changed = false;
+		final Iterator<Entry> iterator = pending.values().iterator();
+		while (visible.size() < maxVisible && iterator.hasNext()) {
+			final Entry entry = iterator.next();
+			iterator.remove();
+			entry.expireAt = now + durationNanos;
+			visible.add(entry);
+			changed = true;
+		}
+		return changed;
+	}
+
+	private void trimPending() {
+		if (pending.size() > MAX_PENDING) {
+			final Iterator<Entry> iterator = pending.values().iterator();
+			iterator.next();
+			iterator.remove();
+			dropped++;
+		}
+	}
+
+	private Entry findVisible(String key) {
+		for (Entry entry : visible) {
+			if (entry.key.equals(key)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	List<Entry> getVisible() {
+		return Collections.unmodifiableList(visible);
+	}
+
+	int getPendingCount() {
+		return pending.size();
+	}
+
+	int getDroppedCount() {
+		return dropped;
+	}
+
+	boolean isEmpty() {
+		return visible.isEmpty() && pending.isEmpty() && incoming.isEmpty();
+	}
+
+	/**
+	 * Single notification
+	 */
+	static final class Entry {
+		private final Alert.AlertType type;
+		private final String message;
+		private final String key;
+		private int count = 1;
+		private long expireAt;
+
+		private Entry(Alert.AlertType type, String message) {
+			this.type = type;
+			this.message = message;
+			this.key = type.name() + ':' + message;
+		}
+
+		Alert.AlertType getType() {
+			return type;
+		}
+
+		String getMessage() {
+			return message;
+		}
+
+		int getCount() {
+			return count;
+		}
+
+		long getExpireAt() {
+			return expireAt;
+		}
+
+		String getText() {
+			return count > 1 ? message + " (\u00D7" + count + ')' : message;
+		}
+	}
+}
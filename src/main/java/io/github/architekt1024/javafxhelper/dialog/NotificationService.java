@@ -0,0 +1,284 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.event.EventHandler;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.stage.Popup;
+import javafx.stage.PopupWindow;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-modal, auto-dismissing notifications (toasts) stacked in the bottom right corner of the owner window.
+ * <br>
+ * All notifications of one window share one {@link Popup} and a small pool of nodes, so showing message does not create
+ * {@link javafx.stage.Stage}. Methods can be called from any thread; popup is created and messages are applied in batches on the
+ * FX application thread and the same messages are collapsed into one notification with counter.
+ * <br>
+ * Example usage: <pre>{@code
+ * NotificationService.of(stage).showInfo("File saved");
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see DialogService#showNotification(Alert.AlertType, String)
+ * @since 0.1.12
+ */
+public final class NotificationService {
+	/**
+	 * How long notification is visible
+	 *
+	 * @since 0.1.12
+	 */
+	public static final Duration DEFAULT_DURATION = Duration.seconds(4);
+	/**
+	 * Maximum number of notifications visible at once, other wait in queue
+	 *
+	 * @since 0.1.12
+	 */
+	public static final int MAX_VISIBLE = 5;
+
+	private static final Logger LOG = LoggerFactory.getLogger(NotificationService.class);
+	private static final Map<Window, NotificationService> SERVICES = new HashMap<>();
+	private static final double MARGIN = 16;
+	private static final double MAX_WIDTH = 400;
+	private static final String BASE_STYLE = "-fx-padding: 8 12; -fx-background-radius: 4; -fx-text-fill: white; -fx-cursor: hand;";
+
+	private final Window owner;
+	private final NotificationBuffer buffer = new NotificationBuffer(MAX_VISIBLE,
+		TimeUnit.MILLISECONDS.toNanos((long) DEFAULT_DURATION.toMillis()));
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+	private final Deque<Label> pool = new ArrayDeque<>();
+	private final VBox container = new VBox(6);
+	private Popup popup;
+	private final PauseTransition expiry = new PauseTransition();
+	private final InvalidationListener reposition = observable -> updatePosition();
+	private final EventHandler<WindowEvent> hiddenHandler = event -> release();
+
+	private NotificationService(Window owner) {
+		this.owner = owner;
+		// popup and owner listeners are touched only on FX application thread, show() queues drain after this
+		if (Platform.isFxApplicationThread()) {
+			attach();
+		} else {
+			Platform.runLater(this::attach);
+		}
+	}
+
+	private void attach() {
+		popup = new Popup();
+		container.setAlignment(Pos.BOTTOM_RIGHT);
+		container.setFillWidth(false);
+		popup.getContent().add(container);
+		popup.setAnchorLocation(PopupWindow.AnchorLocation.WINDOW_BOTTOM_RIGHT);
+		popup.setAutoFix(false);
+		popup.setAutoHide(false);
+		popup.setHideOnEscape(false);
+		expiry.setOnFinished(event -> {
+			buffer.expire(System.nanoTime());
+			render();
+		});
+		owner.xProperty().addListener(reposition);
+		owner.yProperty().addListener(reposition);
+		owner.widthProperty().addListener(reposition);
+		owner.heightProperty().addListener(reposition);
+		owner.addEventHandler(WindowEvent.WINDOW_HIDDEN, hiddenHandler);
+	}
+
+	/**
+	 * Get notification service for window. Service is created on first use and released when window is closed.
+	 *
+	 * @param owner owner window, cannot be null
+	 *
+	 * @return notification service
+	 *
+	 * @since 0.1.12
+	 */
+	public static NotificationService of(@NotNull Window owner) {
+		Objects.requireNonNull(owner);
+		synchronized (SERVICES) {
+			return SERVICES.computeIfAbsent(owner, NotificationService::new);
+		}
+	}
+
+	/**
+	 * Show notification. For null {@code type} will be used {@link javafx.scene.control.Alert.AlertType#NONE}
+	 *
+	 * @param type    notification type
+	 * @param message message
+	 *
+	 * @since 0.1.12
+	 */
+	public void show(@Nullable Alert.AlertType type, @Nullable String message) {
+		buffer.offer(type, message);
+		if (drainScheduled.compareAndSet(false, true)) {
+			Platform.runLater(this::drain);
+		}
+	}
+
+	/**
+	 * Show {@link javafx.scene.control.Alert.AlertType#INFORMATION} notification.
+	 *
+	 * @param message message
+	 *
+	 * @since 0.1.12
+	 */
+	public void showInfo(@Nullable String message) {
+		show(Alert.AlertType.INFORMATION, message);
+	}
+
+	/**
+	 * Show {@link javafx.scene.control.Alert.AlertType#WARNING} notification.
+	 *
+	 * @param message message
+	 *
+	 * @since 0.1.12
+	 */
+	public void showWarning(@Nullable String message) {
+		show(Alert.AlertType.WARNING, message);
+	}
+
+	/**
+	 * Show {@link javafx.scene.control.Alert.AlertType#ERROR} notification.
+	 *
+	 * @param message message
+	 *
+	 * @since 0.1.12
+	 */
+	public void showError(@Nullable String message) {
+		show(Alert.AlertType.ERROR, message);
+	}
+
+	/**
+	 * Release service when owner window is hidden, new service is created when window is shown again
+	 */
+	private void release() {
+		synchronized (SERVICES) {
+			SERVICES.remove(owner, this);
+		}
+		owner.xProperty().removeListener(reposition);
+		owner.yProperty().removeListener(reposition);
+		owner.widthProperty().removeListener(reposition);
+		owner.heightProperty().removeListener(reposition);
+		owner.removeEventHandler(WindowEvent.WINDOW_HIDDEN, hiddenHandler);
+		expiry.stop();
+		buffer.clear();
+		popup.hide();
+	}
+
+	private void drain() {
+		drainScheduled.set(false);
+		if (buffer.drain(System.nanoTime())) {
+			render();
+		}
+	}
+
+	private void render() {
+		final List<NotificationBuffer.Entry> entries = buffer.getVisible();
+		final List<Node> children = container.getChildren();
+		while (children.size() > entries.size()) {
+			pool.push((Label) children.remove(children.size() - 1));
+		}
+		while (children.size() < entries.size()) {
+			children.add(pool.isEmpty() ? createToast() : pool.pop());
+		}
+		for (int i = 0; i < entries.size(); i++) {
+			final NotificationBuffer.Entry entry = entries.get(i);
+			final Label toast = (Label) children.get(i);
+			toast.setUserData(entry);
+			toast.setText(entry.getText());
+			toast.setStyle(BASE_STYLE + "-fx-background-color: " + color(entry.getType()) + ';');
+		}
+		if (entries.isEmpty()) {
+			expiry.stop();
+			popup.hide();
+			return;
+		}
+		if (!popup.isShowing()) {
+			if (!owner.isShowing()) {
+				LOG.debug("Owner window is not showing, notification skipped");
+				buffer.clear();
+				children.clear();
+				return;
+			}
+			popup.show(owner);
+		}
+		updatePosition();
+		scheduleExpiry(entries);
+	}
+
+	private void scheduleExpiry(List<NotificationBuffer.Entry> entries) {
+		final long now = System.nanoTime();
+		long next = Long.MAX_VALUE;
+		for (NotificationBuffer.Entry entry : entries) {
+			next = Math.min(next, entry.getExpireAt() - now);
+		}
+		expiry.stop();
+		expiry.setDuration(Duration.millis(TimeUnit.NANOSECONDS.toMillis(Math.max(0, next)) + 1));
+		expiry.playFromStart();
+	}
+
+	private Label createToast() {
+		final Label toast = new Label();
+		toast.setWrapText(true);
+		toast.setMaxWidth(MAX_WIDTH);
+		toast.setOnMouseClicked(event -> {
+			buffer.dismiss((NotificationBuffer.Entry) toast.getUserData(), System.nanoTime());
+			render();
+		});
+		return toast;
+	}
+
+	private void updatePosition() {
+		if (popup.isShowing()) {
+			popup.setAnchorX(owner.getX() + owner.getWidth() - MARGIN);
+			popup.setAnchorY(owner.getY() + owner.getHeight() - MARGIN);
+		}
+	}
+
+	private static String color(Alert.AlertType type) {
+		switch (type) {
+			case ERROR:
+				return "#b00020";
+			case WARNING:
+				return "#9a6b00";
+			default:
+				return "#323232";
+		}
+	}
+}
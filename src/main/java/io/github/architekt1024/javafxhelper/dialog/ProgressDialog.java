@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javafx.animation.AnimationTimer;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.stage.Window;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dialog showing progress of background operation with cancel button and estimated remaining time.
+ * Progress and message updates from worker threads are coalesced, the dialog is updated at most once per pulse.
+ * <br>
+ * Example usage: <pre>{@code
+ * boolean completed = ProgressDialog.showAndWait(reporter -> {
+ *     for (int i = 0; i < files.size() && !reporter.isCancelled(); i++) {
+ *         reporter.updateMessage(files.get(i).getName());
+ *         process(files.get(i));
+ *         reporter.updateProgress(i + 1, files.size());
+ *     }
+ * }, "Import", "Importing files", stage);
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see DialogService#showProgressDialog(Task, String)
+ * @since 0.1.12
+ */
+public final class ProgressDialog implements ProgressReporter {
+	private static final Logger LOG = LoggerFactory.getLogger(ProgressDialog.class);
+	private static final double WIDTH = 400;
+	private static final String DEFAULT_REMAINING_TEXT = "Remaining:";
+
+	private final Dialog<ButtonType> dialog = new Dialog<>();
+	private final ProgressBar progressBar = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+	private final Label messageLabel = new Label();
+	private final Label etaLabel = new Label();
+	private final AtomicBoolean dirty = new AtomicBoolean();
+	private final AtomicBoolean cancelled = new AtomicBoolean();
+	private final EtaEstimator etaEstimator = new EtaEstimator(System.nanoTime());
+	private final AnimationTimer timer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			if (dirty.getAndSet(false)) {
+				applyUpdate(now);
+			}
+		}
+	};
+	private final String remainingText;
+	private volatile double workDone = -1;
+	private volatile double max = 1;
+	private volatile String message;
+
+	private ProgressDialog(@Nullable String title, @Nullable String headerText, @Nullable Window parentWindow, String remainingText) {
+		this.remainingText = Objects.requireNonNull(remainingText);
+		dialog.setTitle(title);
+		dialog.setHeaderText(headerText);
+		dialog.initOwner(parentWindow);
+		progressBar.setPrefWidth(WIDTH);
+		dialog.getDialogPane().setContent(new VBox(5, messageLabel, progressBar, etaLabel));
+		dialog.getDialogPane().getButtonTypes().add(ButtonType.CANCEL);
+	}
+
+	private void showAndWait(Task<?> task) {
+		task.stateProperty().addListener((observable, oldValue, newValue) -> closeIfDone(task));
+		dialog.setOnShown(event -> {
+			timer.start();
+			closeIfDone(task);
+		});
+		dialog.setOnHidden(event -> {
+			timer.stop();
+			if (!task.isDone()) {
+				cancelled.set(true);
+				task.cancel();
+			}
+		});
+		if (task.getState() == Worker.State.READY) {
+			final Thread thread = new Thread(task, "progress-dialog");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		dialog.showAndWait();
+		if (task.getState() == Worker.State.FAILED) {
+			LOG.warn("Operation failed", task.getException());
+		}
+	}
+
+	/**
+	 * Show progress of {@link Task} and wait until task is done or cancelled by user. Task is started in a new daemon thread
+	 * if it is not running yet.
+	 *
+	 * @param task         task to run, cannot be null
+	 * @param title        dialog title
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param <T>          task result type
+	 *
+	 * @return task result, empty if task failed or was cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	public static <T> Optional<T> showAndWait(@NotNull Task<T> task, @Nullable String title, @Nullable String headerText,
+											  @Nullable Window parentWindow) {
+		return showAndWait(task, title, headerText, parentWindow, DEFAULT_REMAINING_TEXT);
+	}
+
+	/**
+	 * Show progress of {@link Task} and wait until task is done or cancelled by user. Task is started in a new daemon thread
+	 * if it is not running yet.
+	 *
+	 * @param task          task to run, cannot be null
+	 * @param title         dialog title
+	 * @param headerText    text to show in the dialog header area
+	 * @param parentWindow  specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param remainingText text shown before estimated remaining time, cannot be null
+	 * @param <T>           task result type
+	 *
+	 * @return task result, empty if task failed or was cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	public static <T> Optional<T> showAndWait(@NotNull Task<T> task, @Nullable String title, @Nullable String headerText,
+											  @Nullable Window parentWindow, @NotNull String remainingText) {
+		Objects.requireNonNull(task);
+		final ProgressDialog progressDialog = new ProgressDialog(title, headerText, parentWindow, remainingText);
+		task.progressProperty().addListener((observable, oldValue, newValue) ->
+			progressDialog.updateProgress(task.getWorkDone(), task.getTotalWork()));
+		task.messageProperty().addListener((observable, oldValue, newValue) -> progressDialog.updateMessage(newValue));
+		progressDialog.showAndWait(task);
+		return task.getState() == Worker.State.SUCCEEDED ? Optional.ofNullable(task.getValue()) : Optional.empty();
+	}
+
+	/**
+	 * Run operation in a new daemon thread, show its progress and wait until operation is done or cancelled by user.
+	 *
+	 * @param work         operation to run, reports progress with {@link ProgressReporter}, cannot be null
+	 * @param title        dialog title
+	 * @param headerText   text to show in the dialog header area
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 *
+	 * @return true if operation completed, false if it failed or was cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	public static boolean showAndWait(@NotNull Consumer<ProgressReporter> work, @Nullable String title, @Nullable String headerText,
+									  @Nullable Window parentWindow) {
+		return showAndWait(work, title, headerText, parentWindow, DEFAULT_REMAINING_TEXT);
+	}
+
+	/**
+	 * Run operation in a new daemon thread, show its progress and wait until operation is done or cancelled by user.
+	 *
+	 * @param work          operation to run, reports progress with {@link ProgressReporter}, cannot be null
+	 * @param title         dialog title
+	 * @param headerText    text to show in the dialog header area
+	 * @param parentWindow  specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 * @param remainingText text shown before estimated remaining time, cannot be null
+	 *
+	 * @return true if operation completed, false if it failed or was cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	public static boolean showAndWait(@NotNull Consumer<ProgressReporter> work, @Nullable String title, @Nullable String headerText,
+									  @Nullable Window parentWindow, @NotNull String remainingText) {
+		Objects.requireNonNull(work);
+		final ProgressDialog progressDialog = new ProgressDialog(title, headerText, parentWindow, remainingText);
+		final Task<Boolean> task = new Task<>() {
+			@Override
+			protected Boolean call() {
+				work.accept(progressDialog);
+				return !progressDialog.isCancelled();
+			}
+		};
+		progressDialog.showAndWait(task);
+		return task.getState() == Worker.State.SUCCEEDED && Boolean.TRUE.equals(task.getValue());
+	}
+
+	private void closeIfDone(Task<?> task) {
+		if (task.isDone() && dialog.isShowing()) {
+			dialog.setResult(ButtonType.OK);
+			dialog.close();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateProgress(double workDone, double max) {
+		this.workDone = workDone;
+		this.max = max;
+		dirty.set(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateMessage(@Nullable String message) {
+		this.message = message;
+		dirty.set(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCancelled() {
+		return cancelled.get();
+	}
+
+	private void applyUpdate(long now) {
+		final double done = workDone;
+		final double total = max;
+		if (done < 0 || total <= 0) {
+			progressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+			etaLabel.setText(null);
+		} else {
+			final double fraction = Math.min(1, done / total);
+			progressBar.setProgress(fraction);
+			etaEstimator.update(fraction, now);
+			etaLabel.setText(formatRemaining(remainingText, etaEstimator.getRemaining()));
+		}
+		messageLabel.setText(message);
+	}
+
+	private static String formatRemaining(String remainingText, Duration remaining) {
+		if (remaining == null) {
+			return null;
+		}
+		final long seconds = remaining.toSeconds();
+		return remainingText + String.format(" %d:%02d:%02d", seconds / 3600, (seconds % 3600) / 60, seconds % 60);
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Report progress from background thread. Methods can be called from any thread, updates are shown at most once per pulse.
+ *
+ * @author architekt1024
+ * @see ProgressDialog
+ * @since 0.1.12
+ */
+public interface ProgressReporter {
+	/**
+	 * Update progress
+	 *
+	 * @param workDone amount of work done, negative value for indeterminate progress
+	 * @param max      maximum amount of work
+	 *
+	 * @since 0.1.12
+	 */
+	void updateProgress(double workDone, double max);
+
+	/**
+	 * Update message
+	 *
+	 * @param message message to show
+	 *
+	 * @since 0.1.12
+	 */
+	void updateMessage(@Nullable String message);
+
+	/**
+	 * Check if user cancelled operation. Long operations should check it periodically and stop.
+	 *
+	 * @return true if cancelled
+	 *
+	 * @since 0.1.12
+	 */
+	boolean isCancelled();
+}
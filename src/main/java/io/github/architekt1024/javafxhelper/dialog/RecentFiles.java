@@ -0,0 +1,386 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recently used files per dialog purpose, persisted in an append-only file. File is loaded on background thread, so the index can be
+ * created at application start without blocking; until it is loaded {@link #getRecent(String)} returns only files added in this
+ * session. Entries of files which no longer exist are pruned on background thread, the store file is compacted when it grows.
+ * <br>
+ * Example usage: <pre>{@code
+ * FileDialog.setRecentFiles(RecentFiles.open(Path.of(System.getProperty("user.home"), ".myapp", "recent-files")));
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see FileDialog#setRecentFiles(RecentFiles)
+ * @since 0.1.12
+ */
+public final class RecentFiles {
+	/**
+	 * Default maximum number of files remembered for one purpose
+	 *
+	 * @since 0.1.12
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 20;
+	/**
+	 * Purpose used when dialog has no purpose
+	 *
+	 * @since 0.1.12
+	 */
+	public static final String DEFAULT_PURPOSE = "";
+
+	private static final Logger LOG = LoggerFactory.getLogger(RecentFiles.class);
+	private static final Executor PRUNE_EXECUTOR = Executors.newCachedThreadPool(daemon("recent-files-prune"));
+	private static final String ADD = "+";
+	private static final String REMOVE = "-";
+	private static final String SEPARATOR = "\t";
+	private static final int COMPACT_FACTOR = 4;
+	private static final int COMPACT_MIN_LINES = 64;
+
+	private final Path storeFile;
+	private final int maxEntries;
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(daemon("recent-files"));
+	private final Map<String, LinkedHashMap<String, Long>> entries = new HashMap<>();
+	private final Map<String, Set<String>> removedBeforeLoad = new HashMap<>();
+	private final CompletableFuture<Void> loaded;
+	private boolean merged;
+	private int lineCount;
+
+	private RecentFiles(Path storeFile, int maxEntries) {
+		this.storeFile = storeFile;
+		this.maxEntries = maxEntries;
+		this.loaded = CompletableFuture.runAsync(this::load, writer);
+		loaded.thenRun(this::prune);
+	}
+
+	/**
+	 * Open recent files index with {@link #DEFAULT_MAX_ENTRIES}. Store file is loaded on background thread.
+	 *
+	 * @param storeFile store file, created on first change; cannot be null
+	 *
+	 * @return recent files index
+	 *
+	 * @since 0.1.12
+	 */
+	public static RecentFiles open(@NotNull Path storeFile) {
+		return open(storeFile, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Open recent files index. Store file is loaded on background thread.
+	 *
+	 * @param storeFile  store file, created on first change; cannot be null
+	 * @param maxEntries maximum number of files remembered for one purpose
+	 *
+	 * @return recent files index
+	 *
+	 * @since 0.1.12
+	 */
+	public static RecentFiles open(@NotNull Path storeFile, int maxEntries) {
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+		}
+		return new RecentFiles(Objects.requireNonNull(storeFile), maxEntries);
+	}
+
+	/**
+	 * Get future completed when store file is loaded
+	 *
+	 * @return load future
+	 *
+	 * @since 0.1.12
+	 */
+	public CompletableFuture<Void> whenLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Get recent files, does not block
+	 *
+	 * @param purpose dialog purpose, null for {@link #DEFAULT_PURPOSE}
+	 *
+	 * @return files, most recent first
+	 *
+	 * @since 0.1.12
+	 */
+	public synchronized List<File> getRecent(@Nullable String purpose) {
+		final LinkedHashMap<String, Long> files = entries.get(key(purpose));
+		if (files == null) {
+			return Collections.emptyList();
+		}
+		final List<File> result = new ArrayList<>(files.size());
+		for (String file : files.keySet()) {
+			result.add(new File(file));
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * Add file as the most recent
+	 *
+	 * @param purpose dialog purpose, null for {@link #DEFAULT_PURPOSE}
+	 * @param file    file, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public void add(@Nullable String purpose, @NotNull File file) {
+		final String key = key(purpose);
+		final String path = file.getAbsolutePath();
+		final long time = System.currentTimeMillis();
+		synchronized (this) {
+			put(entries, key, path, time);
+		}
+		append(ADD + SEPARATOR + time + SEPARATOR + escape(key) + SEPARATOR + escape(path));
+	}
+
+	/**
+	 * Remove file
+	 *
+	 * @param purpose dialog purpose, null for {@link #DEFAULT_PURPOSE}
+	 * @param file    file, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public void remove(@Nullable String purpose, @NotNull File file) {
+		final String key = key(purpose);
+		final String path = file.getAbsolutePath();
+		synchronized (this) {
+			final LinkedHashMap<String, Long> files = entries.get(key);
+			final boolean removed = files != null && files.remove(path) != null;
+			if (!merged) {
+				// stored files are not known yet, file is removed from them after load
+				removedBeforeLoad.computeIfAbsent(key, k -> new HashSet<>()).add(path);
+			} else if (!removed) {
+				return;
+			}
+		}
+		append(REMOVE + SEPARATOR + escape(key) + SEPARATOR + escape(path));
+	}
+
+	/**
+	 * Remove files which no longer exist. Files are checked on background thread.
+	 *
+	 * @return future completed with number of removed entries
+	 *
+	 * @since 0.1.12
+	 */
+	public CompletableFuture<Integer> prune() {
+		final Map<String, List<String>> snapshot = new HashMap<>();
+		synchronized (this) {
+			entries.forEach((purpose, files) -> snapshot.put(purpose, new ArrayList<>(files.keySet())));
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			int removed = 0;
+			for (Map.Entry<String, List<String>> entry : snapshot.entrySet()) {
+				for (String path : entry.getValue()) {
+					if (!Files.exists(Path.of(path))) {
+						remove(entry.getKey(), new File(path));
+						removed++;
+					}
+				}
+			}
+			LOG.debug("Pruned {} recent files", removed);
+			return removed;
+		}, PRUNE_EXECUTOR);
+	}
+
+	private void load() {
+		final Map<String, LinkedHashMap<String, Long>> stored = new HashMap<>();
+		int lines = 0;
+		try (BufferedReader reader = Files.newBufferedReader(storeFile, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines++;
+				if (!apply(stored, line)) {
+					LOG.debug("Invalid line in {}: {}", storeFile, line);
+				}
+			}
+		} catch (NoSuchFileException e) {
+			LOG.debug("Recent files store {} does not exist", storeFile);
+		} catch (IOException e) {
+			LOG.warn("Cannot read recent files from {}", storeFile, e);
+		}
+		synchronized (this) {
+			removedBeforeLoad.forEach((purpose, paths) -> {
+				final LinkedHashMap<String, Long> files = stored.get(purpose);
+				if (files != null) {
+					files.keySet().removeAll(paths);
+				}
+			});
+			removedBeforeLoad.clear();
+			merged = true;
+			// files added before load are newer than stored ones
+			entries.forEach((purpose, files) -> files.forEach((path, time) -> put(stored, purpose, path, time)));
+			entries.clear();
+			entries.putAll(stored);
+			lineCount = lines;
+		}
+		compactIfNeeded();
+	}
+
+	private boolean apply(Map<String, LinkedHashMap<String, Long>> target, String line) {
+		final String[] fields = line.split(SEPARATOR, -1);
+		try {
+			if (ADD.equals(fields[0]) && fields.length == 4) {
+				put(target, unescape(fields[2]), unescape(fields[3]), Long.parseLong(fields[1]));
+				return true;
+			}
+			if (REMOVE.equals(fields[0]) && fields.length == 3) {
+				final LinkedHashMap<String, Long> files = target.get(unescape(fields[1]));
+				if (files != null) {
+					files.remove(unescape(fields[2]));
+				}
+				return true;
+			}
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		return false;
+	}
+
+	private void put(Map<String, LinkedHashMap<String, Long>> target, String purpose, String path, long time) {
+		final LinkedHashMap<String, Long> files = target.computeIfAbsent(purpose, key -> new LinkedHashMap<>());
+		files.remove(path);
+		files.put(path, time);
+		final Iterator<String> iterator = files.keySet().iterator();
+		while (files.size() > maxEntries) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private void append(String line) {
+		writer.execute(() -> {
+			try {
+				createParentDirectory();
+				try (BufferedWriter out = Files.newBufferedWriter(storeFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND)) {
+					out.write(line);
+					out.newLine();
+				}
+				synchronized (this) {
+					lineCount++;
+				}
+			} catch (IOException e) {
+				LOG.warn("Cannot write recent files to {}", storeFile, e);
+				return;
+			}
+			compactIfNeeded();
+		});
+	}
+
+	/**
+	 * Rewrite store file with live entries only, called on writer thread
+	 */
+	private void compactIfNeeded() {
+		final List<String> lines = new ArrayList<>();
+		synchronized (this) {
+			int live = 0;
+			for (LinkedHashMap<String, Long> files : entries.values()) {
+				live += files.size();
+			}
+			if (lineCount < COMPACT_MIN_LINES || lineCount <= live * COMPACT_FACTOR) {
+				return;
+			}
+			entries.forEach((purpose, files) -> files.forEach((path, time) ->
+				lines.add(ADD + SEPARATOR + time + SEPARATOR + escape(purpose) + SEPARATOR + escape(path))));
+		}
+		try {
+			createParentDirectory();
+			final Path tempFile = storeFile.resolveSibling(storeFile.getFileName() + ".tmp");
+			Files.write(tempFile, lines, StandardCharsets.UTF_8);
+			Files.move(tempFile, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			synchronized (this) {
+				lineCount = lines.size();
+			}
+			LOG.debug("Compacted {} to {} lines", storeFile, lines.size());
+		} catch (IOException e) {
+			LOG.warn("Cannot compact recent files {}", storeFile, e);
+		}
+	}
+
+	private void createParentDirectory() throws IOException {
+		final Path parent = storeFile.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+	}
+
+	/**
+	 * Wait until all pending changes are written, for tests
+	 */
+	void flush() {
+		CompletableFuture.runAsync(() -> {
+		}, writer).join();
+	}
+
+	synchronized int getLineCount() {
+		return lineCount;
+	}
+
+	private static String key(String purpose) {
+		return purpose == null ? DEFAULT_PURPOSE : purpose;
+	}
+
+	private static String escape(String value) {
+		return StringEscapeUtils.escapeJava(value);
+	}
+
+	private static String unescape(String value) {
+		return StringEscapeUtils.unescapeJava(value);
+	}
+
+	private static ThreadFactory daemon(String name) {
+		return runnable -> {
+			final Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
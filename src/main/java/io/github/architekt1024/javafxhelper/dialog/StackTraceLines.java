@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Format {@link Throwable} stack trace to lines, in the same format as {@link Throwable#printStackTrace()}
+ * (including causes and suppressed exceptions).
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class StackTraceLines {
+	private static final String CAUSE_CAPTION = "Caused by: ";
+	private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+
+	private StackTraceLines() {
+	}
+
+	/**
+	 * Format stack trace
+	 *
+	 * @param throwable exception, cannot be null
+	 *
+	 * @return stack trace lines
+	 *
+	 * @since 0.1.12
+	 */
+	public static List<String> format(@NotNull Throwable throwable) {
+		final List<String> lines = new ArrayList<>();
+		final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		visited.add(throwable);
+		lines.add(throwable.toString());
+		final StackTraceElement[] trace = throwable.getStackTrace();
+		for (StackTraceElement element : trace) {
+			lines.add("\tat " + element);
+		}
+		appendNested(lines, throwable, trace, "", visited);
+		return lines;
+	}
+
+	private static void appendNested(List<String> lines, Throwable throwable, StackTraceElement[] trace, String prefix,
+									 Set<Throwable> visited) {
+		for (Throwable suppressed : throwable.getSuppressed()) {
+			appendEnclosed(lines, suppressed, trace, SUPPRESSED_CAPTION, prefix + "\t", visited);
+		}
+		final Throwable cause = throwable.getCause();
+		if (cause != null) {
+			appendEnclosed(lines, cause, trace, CAUSE_CAPTION, prefix, visited);
+		}
+	}
+
+	private static void appendEnclosed(List<String> lines, Throwable throwable, StackTraceElement[] enclosingTrace, String caption,
+									   String prefix, Set<Throwable> visited) {
+		if (!visited.add(throwable)) {
+			lines.add(prefix + caption + "[CIRCULAR REFERENCE: " + throwable + "]");
+			return;
+		}
+		final StackTraceElement[] trace = throwable.getStackTrace();
+		int m = trace.length - 1;
+		int n = enclosingTrace.length - 1;
+		while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+			m--;
+			n--;
+		}
+		final int framesInCommon = trace.length - 1 - m;
+
+		lines.add(prefix + caption + throwable);
+		for (int i = 0; i <= m; i++) {
+			lines.add(prefix + "\tat " + trace[i]);
+		}
+		if (framesInCommon != 0) {
+			lines.add(prefix + "\t... " + framesInCommon + " more");
+		}
+		appendNested(lines, throwable, trace, prefix, visited);
+	}
+}
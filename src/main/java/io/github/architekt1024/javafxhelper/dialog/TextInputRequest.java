@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.concurrent.CompletionStage;
+
+import javafx.stage.Window;
+
+import io.github.architekt1024.javafxhelper.utils.SuggestionIndex;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parameters of {@link javafx.scene.control.TextInputDialog} shown by {@link DialogProvider}.
+ *
+ * @author architekt1024
+ * @see DialogProvider#showTextInput(TextInputRequest)
+ * @since 0.1.12
+ */
+public class TextInputRequest {
+	private String title;
+	private String contentText;
+	private String headerText;
+	private Window parentWindow;
+	private String defaultValue = "";
+	private CompletionStage<SuggestionIndex> suggestions;
+	private int maxSuggestions;
+
+	/**
+	 * Get {@code title}
+	 *
+	 * @return dialog title
+	 *
+	 * @since 0.1.12
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Set {@code title}
+	 *
+	 * @param title dialog title
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public TextInputRequest setTitle(@Nullable String title) {
+		this.title = title;
+		return this;
+	}
+
+	/**
+	 * Get {@code contentText}
+	 *
+	 * @return text to show in the dialog content area
+	 *
+	 * @since 0.1.12
+	 */
+	public String getContentText() {
+		return contentText;
+	}
+
+	/**
+	 * Set {@code contentText}
+	 *
+	 * @param contentText text to show in the dialog content area
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public TextInputRequest setContentText(@Nullable String contentText) {
+		this.contentText = contentText;
+		return this;
+	}
+
+	/**
+	 * Get {@code headerText}
+	 *
+	 * @return text to show in the dialog header area
+	 *
+	 * @since 0.1.12
+	 */
+	public String getHeaderText() {
+		return headerText;
+	}
+
+	/**
+	 * Set {@code headerText}
+	 *
+	 * @param headerText text to show in the dialog header area, null for default header
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public TextInputRequest setHeaderText(@Nullable String headerText) {
+		this.headerText = headerText;
+		return this;
+	}
+
+	/**
+	 * Get {@code parentWindow}
+	 *
+	 * @return owner window
+	 *
+	 * @since 0.1.12
+	 */
+	public Window getParentWindow() {
+		return parentWindow;
+	}
+
+	/**
+	 * Set {@code parentWindow}
+	 *
+	 * @param parentWindow specifies the owner {@link Window} for this dialog, or null for a top-level, unowned dialog
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public TextInputRequest setParentWindow(@Nullable Window parentWindow) {
+		this.parentWindow = parentWindow;
+		return this;
+	}
+
+	/**
+	 * Get {@code defaultValue}
+	 *
+	 * @return default value entered into the dialog
+	 *
+	 * @since 0.1.12
+	 */
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Set {@code defaultValue}
+	 *
+	 * @param defaultValue default value entered into the dialog
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public TextInputRequest setDefaultValue(@Nullable String defaultValue) {
+		this.defaultValue = defaultValue;
+		return this;
+	}
+
+	/**
+	 * Get {@code suggestions}
+	 *
+	 * @return suggestion index or null
+	 *
+	 * @since 0.1.12
+	 */
+	public CompletionStage<SuggestionIndex> getSuggestions() {
+		return suggestions;
+	}
+
+	/**
+	 * Get {@code maxSuggestions}
+	 *
+	 * @return maximum number of shown suggestions
+	 *
+	 * @since 0.1.12
+	 */
+	public int getMaxSuggestions() {
+		return maxSuggestions;
+	}
+
+	/**
+	 * Set suggestions
+	 *
+	 * @param suggestions    suggestion index, null if not used
+	 * @param maxSuggestions maximum number of shown suggestions
+	 *
+	 * @return this request
+	 *
+	 * @since 0.1.12
+	 */
+	public TextInputRequest setSuggestions(@Nullable CompletionStage<SuggestionIndex> suggestions, int maxSuggestions) {
+		this.suggestions = suggestions;
+		this.maxSuggestions = maxSuggestions;
+		return this;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.listview;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableListBase;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TextField;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only view for very large text. Text is shown in virtualized {@link ListView}, so only visible lines are rendered.
+ * Contains search field, {@code Ctrl+C} copy selected lines.
+ *
+ * @author architekt1024
+ * @see LineIndexedText
+ * @since 0.1.12
+ */
+public class LargeTextView extends VBox {
+	private static final double CELL_SIZE = 18;
+
+	private final LineIndexedText text;
+	private final ListView<String> listView;
+	private final TextField searchField = new TextField();
+	private final Label searchResult = new Label();
+
+	/**
+	 * Create view
+	 *
+	 * @param text text to show, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public LargeTextView(@NotNull String text) {
+		this(new LineIndexedText(text));
+	}
+
+	/**
+	 * Create view
+	 *
+	 * @param text indexed text to show, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public LargeTextView(@NotNull LineIndexedText text) {
+		super(5);
+		this.text = Objects.requireNonNull(text);
+		this.listView = new ListView<>(new LineList(text));
+		listView.setFixedCellSize(CELL_SIZE);
+		listView.setStyle("-fx-font-family: monospace;");
+		listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+		final KeyCombination copy = new KeyCodeCombination(KeyCode.C, KeyCombination.SHORTCUT_DOWN);
+		listView.setOnKeyPressed(event -> {
+			if (copy.match(event)) {
+				copySelection();
+				event.consume();
+			}
+		});
+		VBox.setVgrow(listView, Priority.ALWAYS);
+
+		searchField.setPromptText("Search");
+		searchField.setOnAction(event -> findNext());
+		HBox.setHgrow(searchField, Priority.ALWAYS);
+		final Button nextButton = new Button("Find next");
+		nextButton.setOnAction(event -> findNext());
+		final HBox searchBox = new HBox(5, searchField, nextButton, searchResult);
+		searchBox.setPadding(new Insets(0, 0, 5, 0));
+
+		getChildren().addAll(searchBox, listView);
+	}
+
+	/**
+	 * Select and scroll to next line containing text from search field.
+	 *
+	 * @since 0.1.12
+	 */
+	public void findNext() {
+		final int from = listView.getSelectionModel().getSelectedIndex() + 1;
+		final int found = text.find(searchField.getText(), from);
+		if (found < 0) {
+			searchResult.setText("Not found");
+			return;
+		}
+		searchResult.setText((found + 1) + " / " + text.getLineCount());
+		listView.getSelectionModel().clearAndSelect(found);
+		listView.scrollTo(found);
+	}
+
+	private void copySelection() {
+		final ClipboardContent content = new ClipboardContent();
+		content.putString(listView.getSelectionModel().getSelectedIndices().stream()
+			.sorted()
+			.map(text::getLine)
+			.collect(Collectors.joining(System.lineSeparator())));
+		Clipboard.getSystemClipboard().setContent(content);
+	}
+
+	/**
+	 * Get search field
+	 *
+	 * @return search field
+	 *
+	 * @since 0.1.12
+	 */
+	public TextField getSearchField() {
+		return searchField;
+	}
+
+	/**
+	 * Get list view with lines
+	 *
+	 * @return list view
+	 *
+	 * @since 0.1.12
+	 */
+	public ListView<String> getListView() {
+		return listView;
+	}
+
+	/**
+	 * Read-only list of lines, line content is created on demand.
+	 */
+	private static final class LineList extends ObservableListBase<String> {
+		private final LineIndexedText text;
+
+		private LineList(LineIndexedText text) {
+			this.text = text;
+		}
+
+		@Override
+		public String get(int index) {
+			return text.getLine(index);
+		}
+
+		@Override
+		public int size() {
+			return text.getLineCount();
+		}
+	}
+}
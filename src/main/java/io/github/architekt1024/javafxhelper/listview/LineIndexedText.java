@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.listview;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read-only text split into lines. Only line offsets are stored, line content is created on demand.
+ * Lines longer than {@link #MAX_LINE_LENGTH} are wrapped to several lines.
+ *
+ * @author architekt1024
+ * @see LargeTextView
+ * @since 0.1.12
+ */
+public final class LineIndexedText {
+	/**
+	 * Maximum length of single line
+	 *
+	 * @since 0.1.12
+	 */
+	public static final int MAX_LINE_LENGTH = 4096;
+
+	private final String text;
+	private final int[] starts;
+	private final int lineCount;
+
+	/**
+	 * Build line index
+	 *
+	 * @param text text to index, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public LineIndexedText(@NotNull String text) {
+		this.text = Objects.requireNonNull(text);
+		int[] offsets = new int[Math.max(16, text.length() / 64)];
+		int count = 0;
+		int lineStart = 0;
+		offsets[count++] = 0;
+		final int length = text.length();
+		for (int i = 0; i < length; i++) {
+			final char c = text.charAt(i);
+			int next = -1;
+			if (c == '\n') {
+				next = i + 1;
+			} else if (c == '\r') {
+				next = (i + 1 < length && text.charAt(i + 1) == '\n') ? i + 2 : i + 1;
+			} else if (i - lineStart >= MAX_LINE_LENGTH) {
+				next = i;
+			}
+			if (next >= 0) {
+				if (count == offsets.length) {
+					offsets = Arrays.copyOf(offsets, count * 2);
+				}
+				offsets[count++] = next;
+				lineStart = next;
+				i = next - 1;
+			}
+		}
+		this.starts = offsets;
+		this.lineCount = count;
+	}
+
+	/**
+	 * Get number of lines
+	 *
+	 * @return line count
+	 *
+	 * @since 0.1.12
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Get text length
+	 *
+	 * @return text length
+	 *
+	 * @since 0.1.12
+	 */
+	public int length() {
+		return text.length();
+	}
+
+	/**
+	 * Get line without line separator
+	 *
+	 * @param index line index
+	 *
+	 * @return line content
+	 *
+	 * @throws IndexOutOfBoundsException index out of range
+	 * @since 0.1.12
+	 */
+	public String getLine(int index) {
+		Objects.checkIndex(index, lineCount);
+		return text.substring(starts[index], lineEnd(index));
+	}
+
+	private int lineEnd(int index) {
+		int end = index + 1 < lineCount ? starts[index + 1] : text.length();
+		while (end > starts[index] && (text.charAt(end - 1) == '\n' || text.charAt(end - 1) == '\r')) {
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * Find next line containing {@code query} (case-insensitive). Search wraps around to the first line.
+	 *
+	 * @param query     text to find
+	 * @param fromIndex first line to check
+	 *
+	 * @return line index or -1 if not found
+	 *
+	 * @since 0.1.12
+	 */
+	public int find(@Nullable String query, int fromIndex) {
+		if (query == null || query.isEmpty() || lineCount == 0) {
+			return -1;
+		}
+		final int first = Math.floorMod(fromIndex, lineCount);
+		for (int i = 0; i < lineCount; i++) {
+			final int index = (first + i) % lineCount;
+			if (lineContains(index, query)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private boolean lineContains(int index, String query) {
+		final int last = lineEnd(index) - query.length();
+		for (int offset = starts[index]; offset <= last; offset++) {
+			if (text.regionMatches(true, offset, query, 0, query.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.CustomMenuItem;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Show suggestions from {@link SuggestionIndex} below {@link TextField}. The index is queried after user stops typing
+ * for {@link #DEFAULT_DELAY}.
+ * <br>
+ * Example usage: <pre>{@code
+ * CompletableFuture<SuggestionIndex> index = SuggestionIndex.buildAsync(customerCodes);
+ * AutoComplete.install(textField, index, 10);
+ * }</pre>
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class AutoComplete {
+	/**
+	 * Default delay after last key stroke
+	 *
+	 * @since 0.1.12
+	 */
+	public static final Duration DEFAULT_DELAY = Duration.millis(150);
+	private static final Logger LOG = LoggerFactory.getLogger(AutoComplete.class);
+
+	private final TextField textField;
+	private final int limit;
+	private final ContextMenu popup = new ContextMenu();
+	private final PauseTransition debounce = new PauseTransition(DEFAULT_DELAY);
+	private SuggestionIndex index;
+	private boolean selecting;
+
+	private AutoComplete(TextField textField, int limit) {
+		this.textField = textField;
+		this.limit = limit;
+		debounce.setOnFinished(event -> refresh());
+		textField.textProperty().addListener((observable, oldValue, newValue) -> {
+			if (!selecting) {
+				debounce.playFromStart();
+			}
+		});
+		textField.focusedProperty().addListener((observable, oldValue, newValue) -> {
+			if (Boolean.FALSE.equals(newValue)) {
+				popup.hide();
+			}
+		});
+	}
+
+	/**
+	 * Install autocomplete on text field. Suggestions are shown when index is ready.
+	 *
+	 * @param textField text field, cannot be null
+	 * @param index     suggestion index, may be not completed yet, cannot be null
+	 * @param limit     maximum number of shown suggestions
+	 *
+	 * @since 0.1.12
+	 */
+	public static void install(@NotNull TextField textField, @NotNull CompletionStage<SuggestionIndex> index, int limit) {
+		final AutoComplete autoComplete = new AutoComplete(Objects.requireNonNull(textField), limit);
+		index.whenComplete((result, throwable) -> {
+			if (throwable != null) {
+				LOG.warn("Cannot build suggestion index", throwable);
+				return;
+			}
+			Platform.runLater(() -> {
+				autoComplete.index = result;
+				if (textField.isFocused()) {
+					autoComplete.refresh();
+				}
+			});
+		});
+	}
+
+	private void refresh() {
+		if (index == null) {
+			return;
+		}
+		final List<String> suggestions = index.find(textField.getText(), limit);
+		if (suggestions.isEmpty() || (suggestions.size() == 1 && suggestions.get(0).equals(textField.getText()))) {
+			popup.hide();
+			return;
+		}
+		popup.getItems().clear();
+		for (String suggestion : suggestions) {
+			final CustomMenuItem item = new CustomMenuItem(new Label(suggestion), true);
+			item.setOnAction(event -> select(suggestion));
+			popup.getItems().add(item);
+		}
+		if (!popup.isShowing() && textField.getScene() != null) {
+			popup.show(textField, Side.BOTTOM, 0, 0);
+		}
+	}
+
+	private void select(String suggestion) {
+		selecting = true;
+		try {
+			textField.setText(suggestion);
+			textField.positionCaret(suggestion.length());
+		} finally {
+			selecting = false;
+		}
+		popup.hide();
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Configuration resolved from layers, e.g. defaults, site, user and command line. Later layer overrides earlier ones. Layers are
+ * flattened into one lookup table, so lookup is a single hash lookup. When a layer is replaced, only its old and new keys are
+ * resolved again.
+ * <br>
+ * Lookups are thread-safe and do not block, layer updates are serialized.
+ * <br>
+ * Example usage: <pre>{@code
+ * LayeredConfiguration configuration = new LayeredConfiguration("defaults", "user", "command line");
+ * configuration.loadLayer("defaults", defaultsPath);
+ * configuration.loadLayer("user", userPath);
+ * String theme = configuration.get("theme");
+ * String themeSource = configuration.getSource("theme"); // e.g. "user"
+ * }</pre>
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class LayeredConfiguration {
+	private final List<String> layerNames;
+	private final List<Map<String, String>> layers;
+	private final Map<String, Resolved> resolved = new ConcurrentHashMap<>();
+	private final Map<String, String> values = Collections.unmodifiableMap(new ValuesView());
+
+	/**
+	 * Create configuration with empty layers
+	 *
+	 * @param layerNames names of layers, from the lowest to the highest precedence
+	 *
+	 * @since 0.1.12
+	 */
+	public LayeredConfiguration(@NotNull String... layerNames) {
+		if (new HashSet<>(Arrays.asList(layerNames)).size() != layerNames.length) {
+			throw new IllegalArgumentException("Duplicated layer name");
+		}
+		this.layerNames = List.of(layerNames);
+		this.layers = new ArrayList<>(Collections.nCopies(layerNames.length, Map.of()));
+	}
+
+	/**
+	 * Replace values of layer
+	 *
+	 * @param layer  layer name
+	 * @param values new values of layer
+	 *
+	 * @return keys which resolved value changed
+	 *
+	 * @throws IllegalArgumentException unknown layer
+	 * @since 0.1.12
+	 */
+	public synchronized Set<String> setLayer(@NotNull String layer, @NotNull Map<String, String> values) {
+		final int index = indexOf(layer);
+		final Map<String, String> previous = layers.get(index);
+		final Map<String, String> current = Map.copyOf(values);
+		layers.set(index, current);
+		final Set<String> affected = new HashSet<>(previous.keySet());
+		affected.addAll(current.keySet());
+		final Set<String> changed = new LinkedHashSet<>();
+		for (String key : affected) {
+			final Resolved old = resolved.get(key);
+			// layers with higher precedence hide changes of this layer
+			if (old != null && old.layer > index) {
+				continue;
+			}
+			final Resolved updated = resolve(key);
+			if (updated == null) {
+				resolved.remove(key);
+			} else {
+				resolved.put(key, updated);
+			}
+			if (old == null ? updated != null : updated == null || !old.value.equals(updated.value)) {
+				changed.add(key);
+			}
+		}
+		return Collections.unmodifiableSet(changed);
+	}
+
+	/**
+	 * Replace values of layer
+	 *
+	 * @param layer      layer name
+	 * @param properties new values of layer
+	 *
+	 * @return keys which resolved value changed
+	 *
+	 * @throws IllegalArgumentException unknown layer
+	 * @since 0.1.12
+	 */
+	public Set<String> setLayer(@NotNull String layer, @NotNull Properties properties) {
+		final Map<String, String> copy = new HashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			copy.put(name, properties.getProperty(name));
+		}
+		return setLayer(layer, copy);
+	}
+
+	/**
+	 * Load layer from properties file. When file not exits, layer is empty.
+	 *
+	 * @param layer layer name
+	 * @param path  properties path
+	 *
+	 * @return keys which resolved value changed
+	 *
+	 * @throws IOException              error read from file
+	 * @throws IllegalArgumentException unknown layer
+	 * @see PropertiesUtils#loadPropertiesMap(Path)
+	 * @since 0.1.12
+	 */
+	public Set<String> loadLayer(@NotNull String layer, @NotNull Path path) throws IOException {
+		return setLayer(layer, PropertiesUtils.loadPropertiesMap(path));
+	}
+
+	/**
+	 * Get values of layer
+	 *
+	 * @param layer layer name
+	 *
+	 * @return immutable map of layer values
+	 *
+	 * @throws IllegalArgumentException unknown layer
+	 * @since 0.1.12
+	 */
+	public synchronized Map<String, String> getLayer(@NotNull String layer) {
+		return layers.get(indexOf(layer));
+	}
+
+	/**
+	 * Get names of layers
+	 *
+	 * @return layer names, from the lowest to the highest precedence
+	 *
+	 * @since 0.1.12
+	 */
+	public List<String> getLayerNames() {
+		return layerNames;
+	}
+
+	/**
+	 * Get resolved value
+	 *
+	 * @param key key
+	 *
+	 * @return value of layer with the highest precedence, or {@code null} when no layer contains key
+	 *
+	 * @since 0.1.12
+	 */
+	public @Nullable String get(@NotNull String key) {
+		final Resolved value = resolved.get(key);
+		return value != null ? value.value : null;
+	}
+
+	/**
+	 * Get resolved value
+	 *
+	 * @param key          key
+	 * @param defaultValue value returned when no layer contains key
+	 *
+	 * @return value of layer with the highest precedence or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public String get(@NotNull String key, @Nullable String defaultValue) {
+		final String value = get(key);
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * Get name of layer which supplied the value
+	 *
+	 * @param key key
+	 *
+	 * @return layer name, or {@code null} when no layer contains key
+	 *
+	 * @since 0.1.12
+	 */
+	public @Nullable String getSource(@NotNull String key) {
+		final Resolved value = resolved.get(key);
+		return value != null ? layerNames.get(value.layer) : null;
+	}
+
+	/**
+	 * Get live, unmodifiable view of resolved values, e.g. for {@link TypedProperties#of(Map)}
+	 *
+	 * @return resolved values
+	 *
+	 * @since 0.1.12
+	 */
+	public Map<String, String> asMap() {
+		return values;
+	}
+
+	private Resolved resolve(String key) {
+		for (int i = layers.size() - 1; i >= 0; i--) {
+			final String value = layers.get(i).get(key);
+			if (value != null) {
+				return new Resolved(value, i);
+			}
+		}
+		return null;
+	}
+
+	private int indexOf(String layer) {
+		final int index = layerNames.indexOf(layer);
+		if (index < 0) {
+			throw new IllegalArgumentException("Unknown layer: " + layer);
+		}
+		return index;
+	}
+
+	private static final class Resolved {
+		private final String value;
+		private final int layer;
+
+		private Resolved(String value, int layer) {
+			this.value = value;
+			this.layer = layer;
+		}
+	}
+
+	private final class ValuesView extends AbstractMap<String, String> {
+		@Override
+		public String get(Object key) {
+			final Resolved value = resolved.get(key);
+			return value != null ? value.value : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return resolved.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return resolved.size();
+		}
+
+		@Override
+		public @NotNull Set<Entry<String, String>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public @NotNull Iterator<Entry<String, String>> iterator() {
+					final Iterator<Map.Entry<String, Resolved>> iterator = resolved.entrySet().iterator();
+					return new Iterator<>() {
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Entry<String, String> next() {
+							final Map.Entry<String, Resolved> entry = iterator.next();
+							return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().value);
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return resolved.size();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.util.StringConverter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Settings backed by {@link ObservableMap}, which controls can bind to. Changes made in {@link #batch(Runnable)}, {@link #setAll(Map)}
+ * and {@link #load(Path)} are delivered to {@link SettingsChangeListener} as one notification.
+ * <br>
+ * Like other JavaFX properties, settings are not thread-safe and should be used on JavaFX Application Thread.
+ * <br>
+ * Example usage: <pre>{@code
+ * ObservableSettings settings = PropertiesUtils.loadObservableSettings(settingsPath);
+ * settings.bindBidirectional("user.name", nameField.textProperty());
+ * settings.bindBidirectional("volume", volumeSlider.valueProperty(), new NumberStringConverter());
+ * settings.addListener((source, keys) -> settings.saveLater(settingsPath));
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#loadObservableSettings(Path)
+ * @since 0.1.12
+ */
+public final class ObservableSettings {
+	private static final Logger LOG = LoggerFactory.getLogger(ObservableSettings.class);
+
+	private final ObservableMap<String, String> values = FXCollections.observableHashMap();
+	private final ObservableMap<String, String> readOnlyValues = FXCollections.unmodifiableObservableMap(values);
+	private final Map<String, StringProperty> properties = new HashMap<>();
+	private final List<SettingsChangeListener> listeners = new CopyOnWriteArrayList<>();
+	private final Set<String> changedKeys = new LinkedHashSet<>();
+	private int batchDepth;
+
+	/**
+	 * Create empty settings
+	 *
+	 * @since 0.1.12
+	 */
+	public ObservableSettings() {
+		values.addListener((MapChangeListener<String, String>) change -> {
+			final StringProperty property = properties.get(change.getKey());
+			if (property != null) {
+				property.set(change.getValueAdded());
+			}
+			changedKeys.add(change.getKey());
+			if (batchDepth == 0) {
+				fireChanged();
+			}
+		});
+	}
+
+	/**
+	 * Get observable, unmodifiable view of settings. Map listeners receive one event per key.
+	 *
+	 * @return settings map
+	 *
+	 * @since 0.1.12
+	 */
+	public ObservableMap<String, String> getMap() {
+		return readOnlyValues;
+	}
+
+	/**
+	 * Get setting value
+	 *
+	 * @param key setting key
+	 *
+	 * @return value or {@code null} when setting not exists
+	 *
+	 * @since 0.1.12
+	 */
+	public @Nullable String get(@NotNull String key) {
+		return values.get(key);
+	}
+
+	/**
+	 * Set setting value
+	 *
+	 * @param key   setting key
+	 * @param value new value, {@code null} remove setting
+	 *
+	 * @since 0.1.12
+	 */
+	public void set(@NotNull String key, @Nullable String value) {
+		Objects.requireNonNull(key);
+		if (value == null) {
+			values.remove(key);
+		} else if (!value.equals(values.get(key))) {
+			values.put(key, value);
+		}
+	}
+
+	/**
+	 * Get property of setting, the property and the setting are kept in sync. Setting {@code null} removes setting.
+	 *
+	 * @param key setting key
+	 *
+	 * @return property of setting, the same instance for the same key
+	 *
+	 * @since 0.1.12
+	 */
+	public StringProperty property(@NotNull String key) {
+		return properties.computeIfAbsent(key, ignored -> {
+			final StringProperty property = new SimpleStringProperty(this, key, values.get(key));
+			property.addListener((observable, oldValue, newValue) -> set(key, newValue));
+			return property;
+		});
+	}
+
+	/**
+	 * Bind property bidirectionally to setting. Property takes current value of setting.
+	 *
+	 * @param key      setting key
+	 * @param property property, e.g. {@link javafx.scene.control.TextField#textProperty()}
+	 *
+	 * @since 0.1.12
+	 */
+	public void bindBidirectional(@NotNull String key, @NotNull Property<String> property) {
+		property.bindBidirectional(property(key));
+	}
+
+	/**
+	 * Bind property bidirectionally to setting using converter. Property takes current value of setting, if exists.
+	 *
+	 * @param key       setting key
+	 * @param property  property, e.g. {@link javafx.scene.control.Slider#valueProperty()}
+	 * @param converter value converter
+	 * @param <T>       property type
+	 *
+	 * @since 0.1.12
+	 */
+	public <T> void bindBidirectional(@NotNull String key, @NotNull Property<T> property, @NotNull StringConverter<T> converter) {
+		final String value = values.get(key);
+		if (value != null) {
+			try {
+				property.setValue(converter.fromString(value));
+			} catch (RuntimeException e) {
+				LOG.warn("Invalid value of setting {}: {}", key, value);
+			}
+		}
+		Bindings.bindBidirectional(property(key), property, converter);
+	}
+
+	/**
+	 * Run changes as one batch, listeners are notified once after the batch
+	 *
+	 * @param changes changes of settings
+	 *
+	 * @since 0.1.12
+	 */
+	public void batch(@NotNull Runnable changes) {
+		batchDepth++;
+		try {
+			changes.run();
+		} finally {
+			batchDepth--;
+			if (batchDepth == 0) {
+				fireChanged();
+			}
+		}
+	}
+
+	/**
+	 * Replace all settings in one batch. Only changed keys are updated.
+	 *
+	 * @param newValues new settings
+	 *
+	 * @since 0.1.12
+	 */
+	public void setAll(@NotNull Map<String, String> newValues) {
+		batch(() -> {
+			values.keySet().retainAll(newValues.keySet());
+			newValues.forEach(this::set);
+		});
+	}
+
+	/**
+	 * Replace all settings with properties file in one batch
+	 *
+	 * @param path properties path
+	 *
+	 * @throws IOException error read from file
+	 * @see PropertiesUtils#loadPropertiesMap(Path)
+	 * @since 0.1.12
+	 */
+	public void load(@NotNull Path path) throws IOException {
+		setAll(PropertiesUtils.loadPropertiesMap(path));
+	}
+
+	/**
+	 * Save settings to properties file, preserving comments and order of existing file
+	 *
+	 * @param path properties path
+	 *
+	 * @throws IOException error write to file
+	 * @see PropertiesUtils#savePropertiesIncremental(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public void save(@NotNull Path path) throws IOException {
+		PropertiesUtils.savePropertiesIncremental(path, toProperties());
+	}
+
+	/**
+	 * Save settings to properties file later, with debounce. Like {@link #save(Path)}, comments and order of existing file are preserved.
+	 *
+	 * @param path properties path
+	 *
+	 * @see PropertiesWriter#saveIncremental(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public void saveLater(@NotNull Path path) {
+		PropertiesWriter.shared().saveIncremental(path, toProperties());
+	}
+
+	/**
+	 * Copy settings to properties
+	 *
+	 * @return new properties
+	 *
+	 * @since 0.1.12
+	 */
+	public Properties toProperties() {
+		final Properties copy = new Properties();
+		copy.putAll(values);
+		return copy;
+	}
+
+	/**
+	 * Add listener of settings changes
+	 *
+	 * @param listener listener
+	 *
+	 * @since 0.1.12
+	 */
+	public void addListener(@NotNull SettingsChangeListener listener) {
+		listeners.add(Objects.requireNonNull(listener));
+	}
+
+	/**
+	 * Remove listener of settings changes
+	 *
+	 * @param listener listener
+	 *
+	 * @since 0.1.12
+	 */
+	public void removeListener(@Nullable SettingsChangeListener listener) {
+		listeners.remove(listener);
+	}
+
+	private void fireChanged() {
+		if (changedKeys.isEmpty()) {
+			return;
+		}
+		final Set<String> changed = Collections.unmodifiableSet(new LinkedHashSet<>(changedKeys));
+		changedKeys.clear();
+		for (SettingsChangeListener listener : listeners) {
+			listener.settingsChanged(this, changed);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Background file operations, operations of the same path are run in submit order, one at a time. Operations of different paths
+ * run in parallel.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+final class PathTaskQueue {
+	static final PathTaskQueue SHARED = new PathTaskQueue(Executors.newCachedThreadPool(runnable -> {
+		final Thread thread = new Thread(runnable, "properties-io");
+		thread.setDaemon(true);
+		return thread;
+	}));
+
+	private final Executor executor;
+	private final Map<Path, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+	PathTaskQueue(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Run operation after all previous operations of the path
+	 *
+	 * @param path      file path
+	 * @param operation operation
+	 * @param <T>       result type
+	 *
+	 * @return operation result, on IO error completed exceptionally with {@link CompletionException} caused by
+	 * {@link UncheckedIOException}; cancelling it does not affect following operations
+	 */
+	<T> CompletableFuture<T> submit(Path path, IOSupplier<T> operation) {
+		final Path key = path.toAbsolutePath().normalize();
+		// caller gets own future, so completing or cancelling it cannot break order of the path
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final CompletableFuture<?> future = tails.compute(key, (ignored, tail) -> {
+			final CompletableFuture<?> previous = tail != null ? tail : CompletableFuture.completedFuture(null);
+			// failure of previous operation does not stop the next one
+			return previous.handle((value, error) -> null).thenRunAsync(() -> {
+				// result is completed before next operation of the path starts
+				try {
+					result.complete(operation.get());
+				} catch (IOException e) {
+					result.completeExceptionally(new CompletionException(new UncheckedIOException(e)));
+				} catch (RuntimeException e) {
+					result.completeExceptionally(new CompletionException(e));
+				}
+			}, executor);
+		});
+		future.whenComplete((value, error) -> {
+			tails.remove(key, future);
+			if (error != null) {
+				result.completeExceptionally(error);
+			}
+		});
+		return result;
+	}
+
+	int getPendingPaths() {
+		return tails.size();
+	}
+
+	/**
+	 * File operation
+	 *
+	 * @param <T> result type
+	 */
+	@FunctionalInterface
+	interface IOSupplier<T> {
+		T get() throws IOException;
+	}
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of parsed properties files keyed by path. Files are parsed once and served from memory; external changes are detected with
+ * {@link WatchService}, file is reloaded on background thread and listeners receive the set of changed keys.
+ * When directory cannot be watched, modification time is checked on each access instead.
+ * <br>
+ * Example usage: <pre>{@code
+ * PropertiesCache cache = PropertiesCache.shared();
+ * String theme = cache.get(settingsPath).get("theme");
+ * cache.addListener(settingsPath, (path, keys) -> Platform.runLater(() -> applySettings(keys)));
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#loadPropertiesCached(Path)
+ * @since 0.1.12
+ */
+public final class PropertiesCache implements Closeable {
+	/**
+	 * Delay between file change and reload, so several writes of one save are reloaded once
+	 *
+	 * @since 0.1.12
+	 */
+	public static final long RELOAD_DELAY_MILLIS = 50;
+
+	private static final Logger LOG = LoggerFactory.getLogger(PropertiesCache.class);
+	private static volatile PropertiesCache shared;
+
+	private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+	private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "properties-cache-reload");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final WatchService watchService;
+
+	/**
+	 * Create cache with own {@link WatchService} thread. Should be closed when no longer needed.
+	 *
+	 * @since 0.1.12
+	 */
+	public PropertiesCache() {
+		WatchService service;
+		try {
+			service = FileSystems.getDefault().newWatchService();
+		} catch (IOException | UnsupportedOperationException e) {
+			LOG.warn("File watching is not available, modification time will be checked on access", e);
+			service = null;
+		}
+		this.watchService = service;
+		if (service != null) {
+			final Thread thread = new Thread(this::watch, "properties-cache-watch");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Get cache shared by application, created on first use
+	 *
+	 * @return shared cache
+	 *
+	 * @since 0.1.12
+	 */
+	public static PropertiesCache shared() {
+		PropertiesCache cache = shared;
+		if (cache == null) {
+			synchronized (PropertiesCache.class) {
+				cache = shared;
+				if (cache == null) {
+					cache = new PropertiesCache();
+					shared = cache;
+				}
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Get parsed properties. File is parsed on first access, then served from memory until it changes.
+	 * When file not exits, return empty map.
+	 *
+	 * @param path properties file, cannot be null
+	 *
+	 * @return unmodifiable map of properties
+	 *
+	 * @throws IOException error read from file
+	 * @since 0.1.12
+	 */
+	public Map<String, String> get(@NotNull Path path) throws IOException {
+		final Path key = normalize(path);
+		final Entry entry = entries.computeIfAbsent(key, Entry::new);
+		if (!entry.loaded) {
+			if (!entry.watched) {
+				// register before reading, so no change is missed
+				entry.watched = watch(key.getParent());
+			}
+			reload(key, entry, false);
+		} else if (!entry.watched && entry.isModified()) {
+			reload(key, entry, true);
+		}
+		return entry.values;
+	}
+
+	/**
+	 * Get copy of parsed properties as {@link Properties}
+	 *
+	 * @param path properties file, cannot be null
+	 *
+	 * @return new properties
+	 *
+	 * @throws IOException error read from file
+	 * @since 0.1.12
+	 */
+	public Properties getProperties(@NotNull Path path) throws IOException {
+		final Properties properties = new Properties();
+		properties.putAll(get(path));
+		return properties;
+	}
+
+	/**
+	 * Reload file on background thread
+	 *
+	 * @param path properties file, cannot be null
+	 *
+	 * @return future completed with changed keys
+	 *
+	 * @since 0.1.12
+	 */
+	public CompletableFuture<Set<String>> reload(@NotNull Path path) {
+		final Path key = normalize(path);
+		return CompletableFuture.supplyAsync(() -> {
+			final Entry entry = entries.get(key);
+			if (entry == null) {
+				return Collections.<String>emptySet();
+			}
+			try {
+				return reload(key, entry, true);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, reloadExecutor);
+	}
+
+	/**
+	 * Remove file from cache, it will be parsed again on next access. Listeners of the file are kept.
+	 *
+	 * @param path properties file
+	 *
+	 * @since 0.1.12
+	 */
+	public void invalidate(@Nullable Path path) {
+		if (path != null) {
+			entries.computeIfPresent(normalize(path), (key, entry) -> {
+				if (entry.listeners.isEmpty()) {
+					return null;
+				}
+				entry.loaded = false;
+				return entry;
+			});
+		}
+	}
+
+	/**
+	 * Add listener of file changes
+	 *
+	 * @param path     properties file, cannot be null
+	 * @param listener listener, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public void addListener(@NotNull Path path, @NotNull PropertiesChangeListener listener) {
+		Objects.requireNonNull(listener);
+		final Path key = normalize(path);
+		final Entry entry = entries.computeIfAbsent(key, Entry::new);
+		entry.listeners.add(listener);
+		if (!entry.watched) {
+			entry.watched = watch(key.getParent());
+		}
+		if (!entry.loaded) {
+			// read current values, so first change reports only changed keys
+			reloadExecutor.execute(() -> reloadQuietly(key, entry, false));
+		}
+	}
+
+	/**
+	 * Remove listener of file changes
+	 *
+	 * @param path     properties file, cannot be null
+	 * @param listener listener
+	 *
+	 * @since 0.1.12
+	 */
+	public void removeListener(@NotNull Path path, @Nullable PropertiesChangeListener listener) {
+		final Entry entry = entries.get(normalize(path));
+		if (entry != null) {
+			entry.listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Stop watching files and clear cache
+	 *
+	 * @since 0.1.12
+	 */
+	@Override
+	public void close() {
+		entries.clear();
+		reloadExecutor.shutdownNow();
+		if (watchService != null) {
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				LOG.debug("Cannot close watch service", e);
+			}
+		}
+	}
+
+	private boolean watch(Path directory) {
+		if (watchService == null || directory == null) {
+			return false;
+		}
+		if (watchedDirectories.contains(directory)) {
+			return true;
+		}
+		try {
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+				StandardWatchEventKinds.ENTRY_DELETE);
+			watchedDirectories.add(directory);
+			return true;
+		} catch (IOException | ClosedWatchServiceException e) {
+			LOG.debug("Cannot watch directory {}", directory, e);
+			return false;
+		}
+	}
+
+	private void watch() {
+		try {
+			while (true) {
+				final WatchKey watchKey = watchService.take();
+				final Path directory = (Path) watchKey.watchable();
+				for (WatchEvent<?> event : watchKey.pollEvents()) {
+					if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						entries.keySet().stream().filter(path -> directory.equals(path.getParent())).forEach(this::scheduleReload);
+					} else {
+						scheduleReload(directory.resolve((Path) event.context()));
+					}
+				}
+				if (!watchKey.reset()) {
+					watchedDirectories.remove(directory);
+					entries.values().stream()
+						.filter(entry -> directory.equals(entry.path.getParent()))
+						.forEach(entry -> entry.watched = false);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			LOG.debug("Watch service closed");
+		}
+	}
+
+	private void scheduleReload(Path path) {
+		final Entry entry = entries.get(path);
+		if (entry != null && entry.reloadScheduled.compareAndSet(false, true)) {
+			reloadExecutor.schedule(() -> {
+				entry.reloadScheduled.set(false);
+				reloadQuietly(path, entry, true);
+			}, RELOAD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void reloadQuietly(Path path, Entry entry, boolean force) {
+		try {
+			reload(path, entry, force);
+		} catch (IOException | IllegalArgumentException e) {
+			LOG.warn("Cannot reload properties {}", path, e);
+		}
+	}
+
+	private Set<String> reload(Path path, Entry entry, boolean force) throws IOException {
+		final Set<String> changedKeys;
+		synchronized (entry) {
+			if (!force && entry.loaded) {
+				return Collections.emptySet();
+			}
+			// read and replace under lock, so older read cannot replace newer values
+			final FileTime lastModified = lastModified(path);
+			final Map<String, String> values = read(path);
+			// first read is not a change
+			changedKeys = entry.values != null ? changedKeys(entry.values, values) : Collections.emptySet();
+			entry.values = values;
+			entry.lastModified = lastModified;
+			entry.loaded = true;
+		}
+		if (!changedKeys.isEmpty()) {
+			LOG.debug("Properties {} changed: {}", path, changedKeys);
+			for (PropertiesChangeListener listener : entry.listeners) {
+				try {
+					listener.propertiesChanged(path, changedKeys);
+				} catch (RuntimeException e) {
+					LOG.warn("Properties listener failed", e);
+				}
+			}
+		}
+		return changedKeys;
+	}
+
+	/**
+	 * Find keys which are added, removed or have different value
+	 *
+	 * @param oldValues old values
+	 * @param newValues new values
+	 *
+	 * @return unmodifiable set of changed keys
+	 */
+	static Set<String> changedKeys(Map<String, String> oldValues, Map<String, String> newValues) {
+		final Set<String> changed = new HashSet<>();
+		for (Map.Entry<String, String> entry : newValues.entrySet()) {
+			if (!entry.getValue().equals(oldValues.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String key : oldValues.keySet()) {
+			if (!newValues.containsKey(key)) {
+				changed.add(key);
+			}
+		}
+		return Collections.unmodifiableSet(changed);
+	}
+
+	private static Map<String, String> read(Path path) throws IOException {
+		return PropertiesParser.parse(path);
+	}
+
+	private static FileTime lastModified(Path path) {
+		try {
+			return Files.getLastModifiedTime(path);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Path normalize(Path path) {
+		return path.toAbsolutePath().normalize();
+	}
+
+	private static final class Entry {
+		private final Path path;
+		private final List<PropertiesChangeListener> listeners = new CopyOnWriteArrayList<>();
+		private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+		private volatile Map<String, String> values;
+		private volatile FileTime lastModified;
+		private volatile boolean watched;
+		private volatile boolean loaded;
+
+		private Entry(Path path) {
+			this.path = path;
+		}
+
+		private boolean isModified() {
+			return !Objects.equals(lastModified, PropertiesCache.lastModified(path));
+		}
+	}
+}
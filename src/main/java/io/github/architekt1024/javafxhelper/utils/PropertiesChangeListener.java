@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener of properties file changes.
+ *
+ * @author architekt1024
+ * @see PropertiesCache#addListener(Path, PropertiesChangeListener)
+ * @since 0.1.12
+ */
+@FunctionalInterface
+public interface PropertiesChangeListener {
+	/**
+	 * Called on background thread after file is reloaded and at least one key changed.
+	 *
+	 * @param path        properties file
+	 * @param changedKeys added, removed or modified keys
+	 *
+	 * @since 0.1.12
+	 */
+	void propertiesChanged(@NotNull Path path, @NotNull Set<String> changedKeys);
+}
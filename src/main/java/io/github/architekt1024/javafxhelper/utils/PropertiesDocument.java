@@ -0,0 +1,280 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Line model of properties file. Comments, blank lines, order and formatting of unchanged entries are preserved when the document
+ * is updated.
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#savePropertiesIncremental(java.nio.file.Path, java.util.Properties)
+ * @since 0.1.12
+ */
+final class PropertiesDocument {
+	private final List<Line> lines;
+	private final String lineSeparator;
+
+	private PropertiesDocument(List<Line> lines, String lineSeparator) {
+		this.lines = lines;
+		this.lineSeparator = lineSeparator;
+	}
+
+	/**
+	 * Parse properties text
+	 *
+	 * @param text properties text
+	 *
+	 * @return document
+	 *
+	 * @throws IOException invalid properties text
+	 */
+	static PropertiesDocument parse(String text) throws IOException {
+		final List<Line> lines = new ArrayList<>();
+		String lineSeparator = null;
+		final StringBuilder entry = new StringBuilder();
+		int start = 0;
+		while (start < text.length()) {
+			int end = start;
+			while (end < text.length() && text.charAt(end) != '\n' && text.charAt(end) != '\r') {
+				end++;
+			}
+			final int contentEnd = end;
+			if (end < text.length()) {
+				end += text.startsWith("\r\n", end) ? 2 : 1;
+				if (lineSeparator == null) {
+					lineSeparator = text.substring(contentEnd, end);
+				}
+			}
+			final String content = text.substring(start, contentEnd);
+			entry.append(text, start, end);
+			start = end;
+			if (isContinued(content) && !isComment(entry) && start < text.length()) {
+				continue;
+			}
+			lines.add(createLine(entry.toString()));
+			entry.setLength(0);
+		}
+		return new PropertiesDocument(lines, lineSeparator != null ? lineSeparator : System.lineSeparator());
+	}
+
+	/**
+	 * Update entries to given values. Changed entries are rewritten, removed entries are deleted and new entries are appended
+	 * at the end of document in key order.
+	 *
+	 * @param properties new values
+	 *
+	 * @return true if document was changed
+	 */
+	boolean update(Map<String, String> properties) {
+		final Map<String, Integer> lastIndex = new HashMap<>();
+		for (int i = 0; i < lines.size(); i++) {
+			if (lines.get(i).key != null) {
+				lastIndex.put(lines.get(i).key, i);
+			}
+		}
+		boolean changed = false;
+		final List<Line> updated = new ArrayList<>(lines.size());
+		for (int i = 0; i < lines.size(); i++) {
+			final Line line = lines.get(i);
+			if (line.key == null) {
+				updated.add(line);
+			} else if (!properties.containsKey(line.key)) {
+				changed = true;
+			} else if (lastIndex.get(line.key) == i && !Objects.equals(line.value, properties.get(line.key))) {
+				updated.add(entry(line.key, properties.get(line.key), terminator(line.raw)));
+				changed = true;
+			} else {
+				// unchanged or shadowed by later entry with the same key
+				updated.add(line);
+			}
+		}
+		final TreeSet<String> added = new TreeSet<>(properties.keySet());
+		added.removeAll(lastIndex.keySet());
+		if (!added.isEmpty()) {
+			final int last = updated.size() - 1;
+			if (last >= 0) {
+				final Line line = updated.get(last);
+				final String terminator = terminator(line.raw);
+				final String content = line.raw.substring(0, line.raw.length() - terminator.length());
+				final String lineEnd = terminator.isEmpty() ? lineSeparator : terminator;
+				if (isComment(line.raw) || !isContinued(content)) {
+					updated.set(last, new Line(content + lineEnd, line.key, line.value));
+				} else if (line.key != null && isOnlyContinuation(content)) {
+					// read as empty key only at end of file, continuation would join it with added entries
+					updated.set(last, entry(line.key, line.value, lineEnd));
+				} else {
+					// end continuation with empty line of the same kind, otherwise first added entry is joined to it
+					updated.set(last, new Line(content + lineEnd, line.key, line.value));
+					updated.add(new Line(lineEnd, null, null));
+				}
+			}
+			for (String key : added) {
+				updated.add(entry(key, properties.get(key), lineSeparator));
+			}
+			changed = true;
+		}
+		lines.clear();
+		lines.addAll(updated);
+		return changed;
+	}
+
+	/**
+	 * Get text of document
+	 *
+	 * @return properties text
+	 */
+	String getText() {
+		final StringBuilder text = new StringBuilder();
+		for (Line line : lines) {
+			text.append(line.raw);
+		}
+		return text.toString();
+	}
+
+	private static Line createLine(String raw) throws IOException {
+		if (isBlank(raw) || isComment(raw)) {
+			return new Line(raw, null, null);
+		}
+		final Map<String, String> parsed = PropertiesParser.parse(ByteBuffer.wrap(raw.getBytes(StandardCharsets.UTF_8)));
+		if (parsed.isEmpty()) {
+			return new Line(raw, null, null);
+		}
+		final Map.Entry<String, String> entry = parsed.entrySet().iterator().next();
+		return new Line(raw, entry.getKey(), entry.getValue());
+	}
+
+	private static Line entry(String key, String value, String terminator) {
+		return new Line(escape(key, true) + '=' + escape(value, false) + terminator, key, value);
+	}
+
+	private static String terminator(String raw) {
+		int end = raw.length();
+		while (end > 0 && (raw.charAt(end - 1) == '\n' || raw.charAt(end - 1) == '\r')) {
+			end--;
+		}
+		return raw.substring(end);
+	}
+
+	private static boolean isBlank(CharSequence raw) {
+		for (int i = 0; i < raw.length(); i++) {
+			if (!Character.isWhitespace(raw.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isComment(CharSequence raw) {
+		for (int i = 0; i < raw.length(); i++) {
+			final char c = raw.charAt(i);
+			if (c != ' ' && c != '\t' && c != '\f') {
+				return c == '#' || c == '!';
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if line ends with odd number of backslashes
+	 */
+	private static boolean isContinued(String content) {
+		int backslashes = 0;
+		for (int i = content.length() - 1; i >= 0 && content.charAt(i) == '\\'; i--) {
+			backslashes++;
+		}
+		return backslashes % 2 == 1;
+	}
+
+	/**
+	 * Check if line contains only whitespace and continuations
+	 */
+	private static boolean isOnlyContinuation(String content) {
+		for (int i = 0; i < content.length(); i++) {
+			final char c = content.charAt(i);
+			if (c == '\\') {
+				if (i + 1 < content.length() && content.charAt(i + 1) != '\n' && content.charAt(i + 1) != '\r') {
+					return false;
+				}
+			} else if (!Character.isWhitespace(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Escape key or value like {@link java.util.Properties#store(java.io.Writer, String)}, non-ASCII characters are kept.
+	 */
+	static String escape(String text, boolean key) {
+		final StringBuilder escaped = new StringBuilder(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			switch (c) {
+				case ' ':
+					if (i == 0 || key) {
+						escaped.append('\\');
+					}
+					escaped.append(' ');
+					break;
+				case '\t':
+					escaped.append("\\t");
+					break;
+				case '\n':
+					escaped.append("\\n");
+					break;
+				case '\r':
+					escaped.append("\\r");
+					break;
+				case '\f':
+					escaped.append("\\f");
+					break;
+				case '\\':
+				case '=':
+				case ':':
+				case '#':
+				case '!':
+					escaped.append('\\').append(c);
+					break;
+				default:
+					escaped.append(c);
+					break;
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static final class Line {
+		private final String raw;
+		private final String key;
+		private final String value;
+
+		private Line(String raw, String key, String value) {
+			this.raw = raw;
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
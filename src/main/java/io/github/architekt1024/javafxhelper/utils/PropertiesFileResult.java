@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of loading one properties file by {@link PropertiesUtils#loadAll(Path, String)}.
+ *
+ * @author architekt1024
+ * @see PropertiesLoadResult
+ * @since 0.1.12
+ */
+public final class PropertiesFileResult {
+	private final Path path;
+	private final int size;
+	private final Duration loadTime;
+	private final IOException error;
+
+	PropertiesFileResult(Path path, int size, Duration loadTime, IOException error) {
+		this.path = path;
+		this.size = size;
+		this.loadTime = loadTime;
+		this.error = error;
+	}
+
+	/**
+	 * Get file path
+	 *
+	 * @return file path
+	 *
+	 * @since 0.1.12
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Get number of loaded properties
+	 *
+	 * @return number of properties, 0 if file cannot be loaded
+	 *
+	 * @since 0.1.12
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Get time of reading and parsing file
+	 *
+	 * @return load time
+	 *
+	 * @since 0.1.12
+	 */
+	public Duration getLoadTime() {
+		return loadTime;
+	}
+
+	/**
+	 * Get error thrown while loading file
+	 *
+	 * @return error, null if file was loaded
+	 *
+	 * @since 0.1.12
+	 */
+	@Nullable
+	public IOException getError() {
+		return error;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertiesFileResult[path=" + path + ", size=" + size + ", loadTime=" + loadTime + ", error=" + error + ']';
+	}
+}
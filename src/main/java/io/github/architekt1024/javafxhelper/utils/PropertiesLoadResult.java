@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.InvalidPropertiesFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Properties merged from files of directory, loaded by {@link PropertiesUtils#loadAll(Path, String)}.
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class PropertiesLoadResult {
+	private static final Logger LOG = LoggerFactory.getLogger(PropertiesLoadResult.class);
+	private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+	private final Map<String, String> properties;
+	private final List<PropertiesFileResult> files;
+
+	private PropertiesLoadResult(Map<String, String> properties, List<PropertiesFileResult> files) {
+		this.properties = properties;
+		this.files = files;
+	}
+
+	/**
+	 * Load files of directory matching glob in parallel
+	 *
+	 * @param directory directory
+	 * @param glob      glob matched against path relative to directory
+	 *
+	 * @return merged properties and results of files
+	 *
+	 * @throws IOException error list directory
+	 */
+	static PropertiesLoadResult load(@NotNull Path directory, @NotNull String glob) throws IOException {
+		final PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+		final List<Path> paths = new ArrayList<>();
+		final List<Loaded> failed = new ArrayList<>();
+		Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				if (matcher.matches(directory.relativize(file)) && Files.isRegularFile(file)) {
+					paths.add(file);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+				if (file.equals(directory)) {
+					throw exc;
+				}
+				// unreadable file or subdirectory does not abort the batch
+				LOG.warn("Cannot read {}", file, exc);
+				failed.add(new Loaded(Map.of(), new PropertiesFileResult(file, 0, Duration.ZERO, exc)));
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		final List<Loaded> loaded = POOL.submit(() -> paths.parallelStream().map(PropertiesLoadResult::loadFile)
+			.collect(Collectors.toCollection(ArrayList::new))).join();
+		loaded.addAll(failed);
+		loaded.sort(Comparator.comparing(file -> directory.relativize(file.result.getPath()).toString()));
+		// files are sorted, later file overrides earlier
+		final Map<String, String> merged = new HashMap<>();
+		for (Loaded file : loaded) {
+			merged.putAll(file.properties);
+		}
+		final List<PropertiesFileResult> files = loaded.stream().map(file -> file.result).collect(Collectors.toUnmodifiableList());
+		return new PropertiesLoadResult(Map.copyOf(merged), files);
+	}
+
+	private static Loaded loadFile(Path path) {
+		final long start = System.nanoTime();
+		Map<String, String> properties = Map.of();
+		IOException error = null;
+		try {
+			if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".xml")) {
+				final Map<String, String> xml = new HashMap<>();
+				PropertiesXml.load(path).forEach((key, value) -> xml.put((String) key, (String) value));
+				properties = xml;
+			} else {
+				properties = PropertiesParser.parse(path);
+			}
+		} catch (IOException e) {
+			error = e;
+		} catch (IllegalArgumentException e) {
+			error = new InvalidPropertiesFormatException(e);
+		}
+		final Duration loadTime = Duration.ofNanos(System.nanoTime() - start);
+		if (error != null) {
+			LOG.warn("Cannot load properties {}", path, error);
+		}
+		return new Loaded(properties, new PropertiesFileResult(path, properties.size(), loadTime, error));
+	}
+
+	/**
+	 * Get properties merged from all loaded files. Files are applied in order of relative path, later file overrides earlier one.
+	 *
+	 * @return immutable map of properties
+	 *
+	 * @since 0.1.12
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Get results of files in order of relative path
+	 *
+	 * @return results of files
+	 *
+	 * @since 0.1.12
+	 */
+	public List<PropertiesFileResult> getFiles() {
+		return files;
+	}
+
+	/**
+	 * Get results of files which cannot be loaded
+	 *
+	 * @return failed files
+	 *
+	 * @since 0.1.12
+	 */
+	public List<PropertiesFileResult> getErrors() {
+		return files.stream().filter(file -> file.getError() != null).collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * Get total time of loading files, sum of load times
+	 *
+	 * @return total load time
+	 *
+	 * @since 0.1.12
+	 */
+	public Duration getTotalLoadTime() {
+		return files.stream().map(PropertiesFileResult::getLoadTime).reduce(Duration.ZERO, Duration::plus);
+	}
+
+	private static final class Loaded {
+		private final Map<String, String> properties;
+		private final PropertiesFileResult result;
+
+		private Loaded(Map<String, String> properties, PropertiesFileResult result) {
+			this.properties = properties;
+			this.result = result;
+		}
+	}
+}
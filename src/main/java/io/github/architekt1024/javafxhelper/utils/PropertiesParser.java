@@ -0,0 +1,347 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fast parser of large UTF-8 properties files. File is memory-mapped and parsed in one pass, keys and values are decoded directly
+ * from mapped bytes without reading lines. Format is the same as {@link java.util.Properties#load(java.io.Reader)}: comments,
+ * {@code =}, {@code :} and whitespace separators, escapes, {@code \\uXXXX} and line continuations.
+ * <br>
+ * Result is a compact immutable map, which (unlike {@link java.util.Properties}) is not synchronized.
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#loadPropertiesMap(Path)
+ * @since 0.1.12
+ */
+public final class PropertiesParser {
+	private static final int END = -1;
+	private static final int ESCAPED = 0x10000;
+	private static final int EMPTY_LINE = -2;
+
+	private PropertiesParser() {
+	}
+
+	/**
+	 * Parse properties file. When file not exits, return empty map.
+	 *
+	 * @param path properties path, cannot be null
+	 *
+	 * @return immutable map of properties
+	 *
+	 * @throws IOException              error read from file or file is not valid UTF-8
+	 * @throws IllegalArgumentException file contains malformed {@code \\uXXXX} escape
+	 * @since 0.1.12
+	 */
+	public static Map<String, String> parse(@NotNull Path path) throws IOException {
+		if (!Files.isReadable(path)) {
+			return Map.of();
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size == 0) {
+				return Map.of();
+			}
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("File is too large: " + path);
+			}
+			return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+	}
+
+	/**
+	 * Parse properties from UTF-8 bytes between position and limit of buffer. Buffer position is not changed.
+	 *
+	 * @param buffer UTF-8 bytes
+	 *
+	 * @return immutable map of properties
+	 *
+	 * @throws IOException bytes are not valid UTF-8
+	 */
+	static Map<String, String> parse(@NotNull ByteBuffer buffer) throws IOException {
+		return new Parser(buffer).parse();
+	}
+
+	private static final class Parser {
+		private final ByteBuffer buffer;
+		private final int limit;
+		private int position;
+		private int lowSurrogate = END;
+		private int pushback = END;
+		private boolean pushed;
+		private char[] chars = new char[128];
+		private int length;
+
+		private Parser(ByteBuffer buffer) {
+			this.buffer = buffer;
+			this.position = buffer.position();
+			this.limit = buffer.limit();
+		}
+
+		Map<String, String> parse() throws IOException {
+			final Map<String, String> values = new HashMap<>();
+			int c;
+			while ((c = nextLineStart()) != END) {
+				if (c == '#' || c == '!') {
+					skipComment();
+					continue;
+				}
+				if (c == EMPTY_LINE) {
+					values.put("", "");
+					continue;
+				}
+				// key
+				length = 0;
+				while (c != END && c != '=' && c != ':' && !isWhitespace(c)) {
+					append(c);
+					c = next();
+				}
+				final String key = new String(chars, 0, length);
+				// separator
+				if (isWhitespace(c)) {
+					c = skipWhitespace();
+				}
+				if (c == '=' || c == ':') {
+					c = skipWhitespace();
+				}
+				// value
+				length = 0;
+				while (c != END) {
+					append(c);
+					c = next();
+				}
+				values.put(key, new String(chars, 0, length));
+			}
+			return Map.copyOf(values);
+		}
+
+		/**
+		 * Skip blank lines and leading whitespace. Lines containing only a continuation are joined with the next line.
+		 *
+		 * @return first character of logical line, {@link #EMPTY_LINE} for single backslash at end of file or {@link #END} at end
+		 * of file
+		 */
+		private int nextLineStart() throws IOException {
+			while (true) {
+				int c;
+				do {
+					c = read();
+				} while (isWhitespace(c) || c == '\n' || c == '\r');
+				if (c != '\\') {
+					return c;
+				}
+				final int escaped = read();
+				if (escaped == END) {
+					return EMPTY_LINE;
+				}
+				if (escaped != '\r' && escaped != '\n') {
+					return ESCAPED | escaped;
+				}
+				// same as Properties.load, terminator at end of file does not start continuation
+				if (position >= limit) {
+					return EMPTY_LINE;
+				}
+				if (escaped == '\r') {
+					skipLineFeed();
+				}
+				do {
+					c = read();
+				} while (isWhitespace(c));
+				unread(c);
+			}
+		}
+
+		private void skipComment() throws IOException {
+			int c;
+			do {
+				c = read();
+			} while (c != END && c != '\n' && c != '\r');
+		}
+
+		private int skipWhitespace() throws IOException {
+			int c;
+			do {
+				c = next();
+			} while (isWhitespace(c));
+			return c;
+		}
+
+		/**
+		 * Read next character of logical line. Line continuations are joined, escaped characters are marked with {@link #ESCAPED}.
+		 *
+		 * @return next character or {@link #END} at end of line
+		 */
+		private int next() throws IOException {
+			while (true) {
+				final int c = read();
+				if (c == '\r') {
+					skipLineFeed();
+					return END;
+				}
+				if (c != '\\') {
+					return c == '\n' ? END : c;
+				}
+				final int escaped = read();
+				if (escaped == END) {
+					return END;
+				}
+				if (escaped != '\r' && escaped != '\n') {
+					return ESCAPED | escaped;
+				}
+				// continuation, skip leading whitespace of next line
+				if (escaped == '\r') {
+					skipLineFeed();
+				}
+				int first;
+				do {
+					first = read();
+				} while (isWhitespace(first));
+				unread(first);
+			}
+		}
+
+		private void skipLineFeed() throws IOException {
+			final int c = read();
+			if (c != '\n') {
+				unread(c);
+			}
+		}
+
+		private void append(int c) throws IOException {
+			char value = (char) c;
+			if ((c & ESCAPED) != 0) {
+				switch (value) {
+					case 't':
+						value = '\t';
+						break;
+					case 'r':
+						value = '\r';
+						break;
+					case 'n':
+						value = '\n';
+						break;
+					case 'f':
+						value = '\f';
+						break;
+					case 'u':
+						value = readUnicode();
+						break;
+					default:
+						break;
+				}
+			}
+			if (length == chars.length) {
+				final char[] grown = new char[chars.length * 2];
+				System.arraycopy(chars, 0, grown, 0, length);
+				chars = grown;
+			}
+			chars[length++] = value;
+		}
+
+		private char readUnicode() throws IOException {
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				final int c = next();
+				final int digit = c == END || (c & ESCAPED) != 0 ? -1 : Character.digit(c, 16);
+				if (digit < 0) {
+					throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+				}
+				value = (value << 4) | digit;
+			}
+			return (char) value;
+		}
+
+		private void unread(int c) {
+			pushback = c;
+			pushed = true;
+		}
+
+		/**
+		 * Decode next UTF-8 character.
+		 *
+		 * @return next UTF-16 character or {@link #END} at end of buffer
+		 */
+		private int read() throws IOException {
+			if (pushed) {
+				pushed = false;
+				return pushback;
+			}
+			if (lowSurrogate != END) {
+				final int c = lowSurrogate;
+				lowSurrogate = END;
+				return c;
+			}
+			if (position >= limit) {
+				return END;
+			}
+			final int b = buffer.get(position++);
+			if (b >= 0) {
+				return b;
+			}
+			final int count;
+			final int min;
+			int codePoint;
+			if ((b & 0xE0) == 0xC0) {
+				count = 1;
+				min = 0x80;
+				codePoint = b & 0x1F;
+			} else if ((b & 0xF0) == 0xE0) {
+				count = 2;
+				min = 0x800;
+				codePoint = b & 0x0F;
+			} else if ((b & 0xF8) == 0xF0) {
+				count = 3;
+				min = 0x10000;
+				codePoint = b & 0x07;
+			} else {
+				throw new MalformedInputException(1);
+			}
+			for (int i = 0; i < count; i++) {
+				if (position >= limit) {
+					throw new MalformedInputException(i + 1);
+				}
+				final int next = buffer.get(position++);
+				if ((next & 0xC0) != 0x80) {
+					throw new MalformedInputException(i + 1);
+				}
+				codePoint = (codePoint << 6) | (next & 0x3F);
+			}
+			if (codePoint < min || codePoint > Character.MAX_CODE_POINT || Character.isSurrogate((char) codePoint) && count == 2) {
+				throw new MalformedInputException(count + 1);
+			}
+			if (count == 3) {
+				lowSurrogate = Character.lowSurrogate(codePoint);
+				return Character.highSurrogate(codePoint);
+			}
+			return codePoint;
+		}
+
+		private static boolean isWhitespace(int c) {
+			return c == ' ' || c == '\t' || c == '\f';
+		}
+	}
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiled binary form of properties file, memory-mapped for fast application startup. Snapshot contains sorted key index and
+ * string table with UTF-8 keys and (deduplicated) values. Keys are found by binary search and values are decoded on first access.
+ * <br>
+ * Snapshot is immutable {@link Map}. {@link #load(Path, Path)} regenerates snapshot when source file was changed.
+ * <br>
+ * File layout: <pre>
+ * int    magic, int version
+ * long   source last modified time, long source size
+ * int    count
+ * int[4] key offset, key length, value offset, value length (count times, sorted by key bytes)
+ * byte[] string table
+ * </pre>
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#loadPropertiesSnapshot(Path)
+ * @since 0.1.12
+ */
+public final class PropertiesSnapshot extends AbstractMap<String, String> {
+	private static final Logger LOG = LoggerFactory.getLogger(PropertiesSnapshot.class);
+	private static final int MAGIC = 0x4A465850;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+	private static final int INDEX_ENTRY_SIZE = 4 * 4;
+
+	private final ByteBuffer buffer;
+	private final long sourceLastModified;
+	private final long sourceSize;
+	private final int count;
+	private final int stringTable;
+	private final String[] keys;
+	private final String[] values;
+	private Set<Entry<String, String>> entrySet;
+
+	private PropertiesSnapshot(ByteBuffer buffer) throws IOException {
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("Not a properties snapshot");
+		}
+		this.buffer = buffer;
+		this.sourceLastModified = buffer.getLong(8);
+		this.sourceSize = buffer.getLong(16);
+		this.count = buffer.getInt(24);
+		if (count < 0 || HEADER_SIZE + (long) count * INDEX_ENTRY_SIZE > buffer.limit()) {
+			throw new IOException("Corrupted properties snapshot");
+		}
+		this.stringTable = HEADER_SIZE + count * INDEX_ENTRY_SIZE;
+		for (int i = 0; i < count; i++) {
+			final int entry = HEADER_SIZE + i * INDEX_ENTRY_SIZE;
+			checkString(buffer, stringTable, entry);
+			checkString(buffer, stringTable, entry + 8);
+		}
+		this.keys = new String[count];
+		this.values = new String[count];
+	}
+
+	/**
+	 * Open snapshot, regenerate it when it does not exist, is not valid or source file was changed.
+	 *
+	 * @param source   properties file, cannot be null
+	 * @param snapshot snapshot file, cannot be null
+	 *
+	 * @return properties snapshot
+	 *
+	 * @throws IOException error read source or write snapshot
+	 * @since 0.1.12
+	 */
+	public static PropertiesSnapshot load(@NotNull Path source, @NotNull Path snapshot) throws IOException {
+		if (Files.isReadable(snapshot)) {
+			try {
+				// header is read without mapping, mapped file cannot be replaced on some platforms (e.g. Windows)
+				final ByteBuffer header = readHeader(snapshot);
+				if (header.getLong(8) == lastModified(source) && header.getLong(16) == size(source)) {
+					return open(snapshot);
+				}
+				LOG.debug("Properties snapshot {} is outdated", snapshot);
+			} catch (IOException e) {
+				LOG.debug("Cannot open properties snapshot {}", snapshot, e);
+			}
+		}
+		return compile(source, snapshot);
+	}
+
+	/**
+	 * Compile properties file to snapshot. When source file not exits, empty snapshot is created.
+	 *
+	 * @param source   properties file, cannot be null
+	 * @param snapshot snapshot file, cannot be null
+	 *
+	 * @return compiled snapshot
+	 *
+	 * @throws IOException error read source or write snapshot
+	 * @since 0.1.12
+	 */
+	public static PropertiesSnapshot compile(@NotNull Path source, @NotNull Path snapshot) throws IOException {
+		final long lastModified = lastModified(source);
+		final long size = size(source);
+		final Map<String, String> properties = PropertiesParser.parse(source);
+		PropertiesUtils.writeAtomic(snapshot, out -> {
+			final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+			write(data, properties, lastModified, size);
+			data.flush();
+		});
+		LOG.debug("Compiled {} properties from {} to {}", properties.size(), source, snapshot);
+		return open(snapshot);
+	}
+
+	/**
+	 * Open existing snapshot
+	 *
+	 * @param snapshot snapshot file, cannot be null
+	 *
+	 * @return properties snapshot
+	 *
+	 * @throws IOException error read file or file is not a snapshot
+	 * @since 0.1.12
+	 */
+	public static PropertiesSnapshot open(@NotNull Path snapshot) throws IOException {
+		try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("File is too large: " + snapshot);
+			}
+			return new PropertiesSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	private static ByteBuffer readHeader(Path snapshot) throws IOException {
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					throw new IOException("Not a properties snapshot");
+				}
+			}
+		}
+		if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+			throw new IOException("Not a properties snapshot");
+		}
+		return header;
+	}
+
+	/**
+	 * Create snapshot from bytes
+	 *
+	 * @param buffer snapshot bytes
+	 *
+	 * @return properties snapshot
+	 *
+	 * @throws IOException bytes are not a snapshot
+	 */
+	static PropertiesSnapshot of(ByteBuffer buffer) throws IOException {
+		return new PropertiesSnapshot(buffer);
+	}
+
+	/**
+	 * Write snapshot
+	 *
+	 * @param out                output
+	 * @param properties         properties to write
+	 * @param sourceLastModified source last modified time in milliseconds
+	 * @param sourceSize         source size
+	 *
+	 * @throws IOException error write to output
+	 */
+	static void write(DataOutputStream out, Map<String, String> properties, long sourceLastModified, long sourceSize) throws IOException {
+		final String[] keys = properties.keySet().toArray(new String[0]);
+		final byte[][] keyBytes = new byte[keys.length][];
+		for (int i = 0; i < keys.length; i++) {
+			keyBytes[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+		}
+		final Integer[] order = new Integer[keys.length];
+		Arrays.setAll(order, i -> i);
+		Arrays.sort(order, (first, second) -> Arrays.compareUnsigned(keyBytes[first], keyBytes[second]));
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(sourceLastModified);
+		out.writeLong(sourceSize);
+		out.writeInt(keys.length);
+		// index, string table has all keys followed by distinct values
+		final Map<String, Integer> valueOffsets = new HashMap<>();
+		final int[] valueOffset = new int[keys.length];
+		final byte[][] valueBytes = new byte[keys.length][];
+		long offset = 0;
+		for (byte[] key : keyBytes) {
+			offset += key.length;
+		}
+		for (int i = 0; i < keys.length; i++) {
+			final String value = properties.get(keys[order[i]]);
+			valueBytes[i] = value.getBytes(StandardCharsets.UTF_8);
+			final Integer existing = valueOffsets.get(value);
+			if (existing != null) {
+				valueOffset[i] = existing;
+			} else {
+				valueOffset[i] = checkOffset(offset);
+				valueOffsets.put(value, valueOffset[i]);
+				offset += valueBytes[i].length;
+			}
+		}
+		checkOffset(HEADER_SIZE + (long) keys.length * INDEX_ENTRY_SIZE + offset);
+		int keyOffset = 0;
+		for (int i = 0; i < keys.length; i++) {
+			final byte[] key = keyBytes[order[i]];
+			out.writeInt(keyOffset);
+			out.writeInt(key.length);
+			out.writeInt(valueOffset[i]);
+			out.writeInt(valueBytes[i].length);
+			keyOffset += key.length;
+		}
+		for (Integer index : order) {
+			out.write(keyBytes[index]);
+		}
+		int written = keyOffset;
+		for (int i = 0; i < keys.length; i++) {
+			if (valueOffset[i] == written) {
+				out.write(valueBytes[i]);
+				written += valueBytes[i].length;
+			}
+		}
+	}
+
+	/**
+	 * Get last modified time of source file when snapshot was compiled
+	 *
+	 * @return time in milliseconds or {@code -1} when source did not exist
+	 *
+	 * @since 0.1.12
+	 */
+	public long getSourceLastModified() {
+		return sourceLastModified;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof String && indexOf((String) key) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public @Nullable String get(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		final int index = indexOf((String) key);
+		return index >= 0 ? valueAt(index) : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public @NotNull Set<Entry<String, String>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private int indexOf(String key) {
+		final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int compare = compareKey(middle, bytes);
+			if (compare < 0) {
+				low = middle + 1;
+			} else if (compare > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	private int compareKey(int index, byte[] bytes) {
+		final int entry = HEADER_SIZE + index * INDEX_ENTRY_SIZE;
+		final int offset = stringTable + buffer.getInt(entry);
+		final int length = buffer.getInt(entry + 4);
+		final int common = Math.min(length, bytes.length);
+		for (int i = 0; i < common; i++) {
+			final int compare = Byte.compareUnsigned(buffer.get(offset + i), bytes[i]);
+			if (compare != 0) {
+				return compare;
+			}
+		}
+		return Integer.compare(length, bytes.length);
+	}
+
+	private String keyAt(int index) {
+		String key = keys[index];
+		if (key == null) {
+			key = decode(HEADER_SIZE + index * INDEX_ENTRY_SIZE);
+			keys[index] = key;
+		}
+		return key;
+	}
+
+	private String valueAt(int index) {
+		String value = values[index];
+		if (value == null) {
+			value = decode(HEADER_SIZE + index * INDEX_ENTRY_SIZE + 8);
+			values[index] = value;
+		}
+		return value;
+	}
+
+	private String decode(int entry) {
+		final byte[] bytes = new byte[buffer.getInt(entry + 4)];
+		buffer.get(stringTable + buffer.getInt(entry), bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void checkString(ByteBuffer buffer, int stringTable, int entry) throws IOException {
+		final int offset = buffer.getInt(entry);
+		final int length = buffer.getInt(entry + 4);
+		if (offset < 0 || length < 0 || (long) stringTable + offset + length > buffer.limit()) {
+			throw new IOException("Corrupted properties snapshot");
+		}
+	}
+
+	private static int checkOffset(long offset) throws IOException {
+		if (offset > Integer.MAX_VALUE) {
+			throw new IOException("Properties are too large for snapshot");
+		}
+		return (int) offset;
+	}
+
+	private static long lastModified(Path path) throws IOException {
+		return Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : -1;
+	}
+
+	private static long size(Path path) throws IOException {
+		return Files.exists(path) ? Files.size(path) : -1;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<String, String>> {
+		@Override
+		public @NotNull Iterator<Entry<String, String>> iterator() {
+			return new Iterator<>() {
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return index < count;
+				}
+
+				@Override
+				public Entry<String, String> next() {
+					if (index >= count) {
+						throw new NoSuchElementException();
+					}
+					final int current = index++;
+					return new SimpleImmutableEntry<>(keyAt(current), valueAt(current));
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return count;
+		}
+	}
+}
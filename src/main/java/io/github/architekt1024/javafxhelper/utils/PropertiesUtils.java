@@ -18,11 +18,24 @@ package io.github.architekt1024.javafxhelper.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -78,6 +91,106 @@ public final class PropertiesUtils {
 		return properties;
 	}
 
+	/**
+	 * Load properties files of directory in parallel and merge them. Files are applied in order of path relative to directory,
+	 * later file overrides earlier one. File which cannot be loaded is reported in result and does not stop loading of others.
+	 * Files with {@code .xml} extension are loaded as properties XML.
+	 * <br>
+	 * Example: {@code loadAll(pluginsDir, "**}{@code /plugin.properties")}
+	 *
+	 * @param directory directory
+	 * @param glob      glob matched against path relative to directory, e.g. {@code *.properties}
+	 *
+	 * @return merged properties, load time and error of each file
+	 *
+	 * @throws IOException error list directory
+	 * @since 0.1.12
+	 */
+	public static PropertiesLoadResult loadAll(@NotNull Path directory, @NotNull String glob) throws IOException {
+		return PropertiesLoadResult.load(directory, glob);
+	}
+
+	/**
+	 * Load properties from file as immutable map, using fast {@link PropertiesParser}. Intended for large files, e.g. with thousands
+	 * of translations. When file not exits, return empty map.
+	 *
+	 * @param path properties path
+	 *
+	 * @return immutable map of properties
+	 *
+	 * @throws IOException error read from file
+	 * @see PropertiesParser
+	 * @since 0.1.12
+	 */
+	public static Map<String, String> loadPropertiesMap(@NotNull Path path) throws IOException {
+		return PropertiesParser.parse(path);
+	}
+
+	/**
+	 * Load properties from binary {@link PropertiesSnapshot} stored next to file ({@code <file name>.snapshot}). Snapshot is
+	 * regenerated when it not exists or properties file was changed. When file not exits, return empty map.
+	 *
+	 * @param path properties path
+	 *
+	 * @return immutable map of properties
+	 *
+	 * @throws IOException error read properties or write snapshot
+	 * @see PropertiesSnapshot
+	 * @since 0.1.12
+	 */
+	public static Map<String, String> loadPropertiesSnapshot(@NotNull Path path) throws IOException {
+		return PropertiesSnapshot.load(path, path.resolveSibling(path.getFileName() + ".snapshot"));
+	}
+
+	/**
+	 * Get properties from {@link PropertiesCache#shared() shared cache}. File is parsed on first call and reloaded when it changes.
+	 * When file not exits, return empty map.
+	 *
+	 * @param path properties path
+	 *
+	 * @return unmodifiable map of properties
+	 *
+	 * @throws IOException error read from file
+	 * @see PropertiesCache
+	 * @since 0.1.12
+	 */
+	public static Map<String, String> loadPropertiesCached(@NotNull Path path) throws IOException {
+		return PropertiesCache.shared().get(path);
+	}
+
+	/**
+	 * Load properties from file as {@link ObservableSettings}, which controls can bind to. When file not exits, return empty settings.
+	 *
+	 * @param path properties path
+	 *
+	 * @return loaded settings
+	 *
+	 * @throws IOException error read from file
+	 * @see ObservableSettings#save(Path)
+	 * @since 0.1.12
+	 */
+	public static ObservableSettings loadObservableSettings(@NotNull Path path) throws IOException {
+		final ObservableSettings settings = new ObservableSettings();
+		settings.load(path);
+		return settings;
+	}
+
+	/**
+	 * Load properties from file as {@link SettingsStore}, thread-safe settings with lock-free reads. When file not exits, return empty
+	 * store.
+	 *
+	 * @param path properties path
+	 *
+	 * @return loaded settings
+	 *
+	 * @throws IOException error read from file
+	 * @see SettingsStore#save(Path)
+	 * @since 0.1.12
+	 */
+	public static SettingsStore loadSettingsStore(@NotNull Path path) throws IOException {
+		return new SettingsStore(loadPropertiesMap(path));
+	}
+
 	/**
 	 * Load properties from XML file. When file not exits, return empty properties.
 	 *
@@ -115,6 +228,34 @@ public final class PropertiesUtils {
 		return properties;
 	}
 
+	/**
+	 * Load properties from XML file with streaming {@link PropertiesXml} reader, faster and using less memory than
+	 * {@link #loadPropertiesXML(Path)} for large files. When file not exits, return empty properties.
+	 *
+	 * @param path XML path
+	 *
+	 * @return loaded properties
+	 *
+	 * @throws IOException error read from file or file is not valid properties XML
+	 * @since 0.1.12
+	 */
+	public static Properties loadPropertiesXMLStreaming(@NotNull Path path) throws IOException {
+		return PropertiesXml.load(path);
+	}
+
+	/**
+	 * Save properties to XML file with streaming {@link PropertiesXml} writer, crash-safe
+	 *
+	 * @param path       XML path
+	 * @param properties properties to save
+	 *
+	 * @throws IOException error write to file
+	 * @since 0.1.12
+	 */
+	public static void savePropertiesXMLStreaming(@NotNull Path path, @NotNull Properties properties) throws IOException {
+		PropertiesXml.save(path, properties);
+	}
+
 	/**
 	 * Save properties to XML file
 	 *
@@ -173,4 +314,197 @@ public final class PropertiesUtils {
 			properties.storeToXML(out, null, CHARSET);
 		}
 	}
+
+	/**
+	 * Save properties keeping comments, order and formatting of existing file. Only changed, added (appended at the end) and removed
+	 * entries are rewritten. When file already contains the same properties, nothing is written.
+	 *
+	 * @param path       properties path
+	 * @param properties properties to save
+	 *
+	 * @return true if file was written
+	 *
+	 * @throws IOException error read or write file
+	 * @since 0.1.12
+	 */
+	public static boolean savePropertiesIncremental(@NotNull Path path, @NotNull Properties properties) throws IOException {
+		final PropertiesDocument document = PropertiesDocument.parse(Files.exists(path) ? Files.readString(path, CHARSET) : "");
+		final Map<String, String> values = new HashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			values.put(name, properties.getProperty(name));
+		}
+		if (!document.update(values)) {
+			return false;
+		}
+		final byte[] bytes = document.getText().getBytes(CHARSET);
+		writeAtomic(path, out -> out.write(bytes));
+		return true;
+	}
+
+	/**
+	 * Save properties crash-safe: write to temporary file in the same directory, flush it to disk and atomically replace target file.
+	 * After crash the file contains either old or new properties, never a truncated file.
+	 *
+	 * @param path       properties path
+	 * @param properties properties to save
+	 *
+	 * @throws IOException error write to file
+	 * @see PropertiesWriter
+	 * @since 0.1.12
+	 */
+	public static void savePropertiesAtomic(@NotNull Path path, @NotNull Properties properties) throws IOException {
+		writeAtomic(path, out -> properties.store(new OutputStreamWriter(out, CHARSET), null));
+	}
+
+	/**
+	 * Save properties to XML file crash-safe, see {@link #savePropertiesAtomic(Path, Properties)}
+	 *
+	 * @param path       XML path
+	 * @param properties properties to save
+	 *
+	 * @throws IOException error write to file
+	 * @since 0.1.12
+	 */
+	public static void savePropertiesXMLAtomic(@NotNull Path path, @NotNull Properties properties) throws IOException {
+		writeAtomic(path, out -> properties.storeToXML(out, null, CHARSET));
+	}
+
+	/**
+	 * Save properties later with {@link PropertiesWriter#shared() shared writer}. Saves within debounce window are coalesced into one
+	 * crash-safe write.
+	 *
+	 * @param path       properties path
+	 * @param properties properties to save
+	 *
+	 * @see PropertiesWriter
+	 * @since 0.1.12
+	 */
+	public static void savePropertiesLater(@NotNull Path path, @NotNull Properties properties) {
+		PropertiesWriter.shared().save(path, properties);
+	}
+
+	/**
+	 * Load properties from file on background thread. Load waits for pending asynchronous saves of the same file.
+	 *
+	 * @param path properties path
+	 *
+	 * @return future of loaded properties, empty properties when file not exits
+	 *
+	 * @see #loadProperties(Path)
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Properties> loadPropertiesAsync(@NotNull Path path) {
+		return PathTaskQueue.SHARED.submit(path, () -> loadProperties(path));
+	}
+
+	/**
+	 * Load properties from XML file on background thread. Load waits for pending asynchronous saves of the same file.
+	 *
+	 * @param path properties path
+	 *
+	 * @return future of loaded properties, empty properties when file not exits
+	 *
+	 * @see #loadPropertiesXML(Path)
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Properties> loadPropertiesXMLAsync(@NotNull Path path) {
+		return PathTaskQueue.SHARED.submit(path, () -> loadPropertiesXML(path));
+	}
+
+	/**
+	 * Save properties to file on background thread. Saves of the same file are written in call order, one at a time.
+	 *
+	 * @param path       properties path
+	 * @param properties properties to save, copied before method returns
+	 *
+	 * @return future completed when properties are saved
+	 *
+	 * @see #saveProperties(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Void> savePropertiesAsync(@NotNull Path path, @NotNull Properties properties) {
+		final Properties copy = new Properties();
+		copy.putAll(properties);
+		return PathTaskQueue.SHARED.submit(path, () -> {
+			saveProperties(path, copy);
+			return null;
+		});
+	}
+
+	/**
+	 * Save properties to XML file on background thread. Saves of the same file are written in call order, one at a time.
+	 *
+	 * @param path       properties path
+	 * @param properties properties to save, copied before method returns
+	 *
+	 * @return future completed when properties are saved
+	 *
+	 * @see #savePropertiesXML(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<Void> savePropertiesXMLAsync(@NotNull Path path, @NotNull Properties properties) {
+		final Properties copy = new Properties();
+		copy.putAll(properties);
+		return PathTaskQueue.SHARED.submit(path, () -> {
+			savePropertiesXML(path, copy);
+			return null;
+		});
+	}
+
+	static void writeAtomic(Path path, StreamWriter streamWriter) throws IOException {
+		final Path target = path.toAbsolutePath();
+		final Path directory = target.getParent();
+		final Path tempFile = createTempFile(target);
+		try {
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				final OutputStream out = Channels.newOutputStream(channel);
+				streamWriter.write(out);
+				out.flush();
+				channel.force(true);
+			}
+			copyPermissions(target, tempFile);
+			try {
+				Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+		syncDirectory(directory);
+	}
+
+	private static Path createTempFile(Path target) throws IOException {
+		// unlike Files.createTempFile, file is created with default permissions
+		while (true) {
+			final String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX);
+			try {
+				return Files.createFile(target.resolveSibling(target.getFileName() + "." + suffix + ".tmp"));
+			} catch (FileAlreadyExistsException e) {
+				// try another name
+			}
+		}
+	}
+
+	private static void copyPermissions(Path source, Path target) throws IOException {
+		if (Files.exists(source) && Files.getFileAttributeView(target, PosixFileAttributeView.class) != null) {
+			Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+		}
+	}
+
+	private static void syncDirectory(Path directory) {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			// not supported on some platforms (e.g. Windows)
+		}
+	}
+
+	/**
+	 * Write content to stream
+	 */
+	@FunctionalInterface
+	interface StreamWriter {
+		void write(OutputStream out) throws IOException;
+	}
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write-behind saving of properties files. Saves of the same file within debounce window are coalesced into one write, which is
+ * crash-safe ({@link PropertiesUtils#savePropertiesAtomic(Path, Properties)}). Pending saves are written on JVM shutdown.
+ * <br>
+ * Properties are written as they are at write time, so caller may keep changing the same {@link Properties} object. Failed write
+ * is logged and dropped, next save of the file writes it again.
+ * <br>
+ * Example usage: <pre>{@code
+ * slider.valueProperty().addListener((observable, oldValue, newValue) -> {
+ *     settings.setProperty("volume", newValue.toString());
+ *     PropertiesWriter.shared().save(settingsPath, settings);
+ * });
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#savePropertiesLater(Path, Properties)
+ * @since 0.1.12
+ */
+public final class PropertiesWriter implements Closeable {
+	/**
+	 * Default debounce window
+	 *
+	 * @since 0.1.12
+	 */
+	public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(500);
+
+	private static final Logger LOG = LoggerFactory.getLogger(PropertiesWriter.class);
+	private static volatile PropertiesWriter shared;
+
+	private final long debounceMillis;
+	private final Map<Path, PendingSave> pending = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "properties-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Thread shutdownHook = new Thread(this::flush, "properties-writer-shutdown");
+	private boolean closed;
+
+	/**
+	 * Create writer. Pending saves are written on JVM shutdown.
+	 *
+	 * @param debounce debounce window, cannot be null
+	 *
+	 * @since 0.1.12
+	 */
+	public PropertiesWriter(@NotNull Duration debounce) {
+		this.debounceMillis = debounce.toMillis();
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	/**
+	 * Get writer shared by application with {@link #DEFAULT_DEBOUNCE}, created on first use
+	 *
+	 * @return shared writer
+	 *
+	 * @since 0.1.12
+	 */
+	public static PropertiesWriter shared() {
+		PropertiesWriter writer = shared;
+		if (writer == null) {
+			synchronized (PropertiesWriter.class) {
+				writer = shared;
+				if (writer == null) {
+					writer = new PropertiesWriter(DEFAULT_DEBOUNCE);
+					shared = writer;
+				}
+			}
+		}
+		return writer;
+	}
+
+	/**
+	 * Schedule save of properties file
+	 *
+	 * @param path       properties path, cannot be null
+	 * @param properties properties to save, cannot be null
+	 *
+	 * @throws IllegalStateException writer is closed
+	 * @since 0.1.12
+	 */
+	public void save(@NotNull Path path, @NotNull Properties properties) {
+		schedule(path, properties, Format.PROPERTIES);
+	}
+
+	/**
+	 * Schedule save of properties file preserving comments and order of existing file
+	 *
+	 * @param path       properties path, cannot be null
+	 * @param properties properties to save, cannot be null
+	 *
+	 * @throws IllegalStateException writer is closed
+	 * @see PropertiesUtils#savePropertiesIncremental(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public void saveIncremental(@NotNull Path path, @NotNull Properties properties) {
+		schedule(path, properties, Format.INCREMENTAL);
+	}
+
+	/**
+	 * Schedule save of properties XML file
+	 *
+	 * @param path       XML path, cannot be null
+	 * @param properties properties to save, cannot be null
+	 *
+	 * @throws IllegalStateException writer is closed
+	 * @since 0.1.12
+	 */
+	public void saveXML(@NotNull Path path, @NotNull Properties properties) {
+		schedule(path, properties, Format.XML);
+	}
+
+	/**
+	 * Write all pending saves now, on calling thread
+	 *
+	 * @since 0.1.12
+	 */
+	public void flush() {
+		for (Path path : new ArrayList<>(pending.keySet())) {
+			write(path);
+		}
+	}
+
+	/**
+	 * Write pending saves and stop writer. Saves are not accepted after close.
+	 *
+	 * @since 0.1.12
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		flush();
+		executor.shutdown();
+		try {
+			Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		} catch (IllegalStateException e) {
+			// JVM is shutting down
+		}
+	}
+
+	/**
+	 * Get number of files waiting for write
+	 *
+	 * @return number of pending saves
+	 *
+	 * @since 0.1.12
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	private void schedule(Path path, Properties properties, Format format) {
+		Objects.requireNonNull(properties);
+		final Path key = path.toAbsolutePath().normalize();
+		final PendingSave save = new PendingSave(properties, format);
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("Properties writer is closed");
+			}
+			if (pending.put(key, save) == null) {
+				executor.schedule(() -> write(key), debounceMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	private void write(Path path) {
+		// writes of one file are serialized, flush from other thread waits for running write
+		synchronized (pending) {
+			PendingSave save;
+			while ((save = pending.get(path)) != null) {
+				writeSave(path, save);
+				// entry stays pending until written, save replaced during write is scheduled again
+				if (pending.remove(path, save)) {
+					return;
+				}
+				synchronized (this) {
+					if (!closed) {
+						executor.schedule(() -> write(path), debounceMillis, TimeUnit.MILLISECONDS);
+						return;
+					}
+				}
+				// writer is closed, replaced save is written now
+			}
+		}
+	}
+
+	private static void writeSave(Path path, PendingSave save) {
+		try {
+			switch (save.format) {
+				case XML:
+					PropertiesUtils.savePropertiesXMLAtomic(path, save.properties);
+					break;
+				case INCREMENTAL:
+					PropertiesUtils.savePropertiesIncremental(path, save.properties);
+					break;
+				default:
+					PropertiesUtils.savePropertiesAtomic(path, save.properties);
+					break;
+			}
+			LOG.debug("Saved properties {}", path);
+		} catch (IOException e) {
+			LOG.warn("Cannot save properties {}", path, e);
+		}
+	}
+
+	private enum Format {
+		PROPERTIES, XML, INCREMENTAL
+	}
+
+	private static final class PendingSave {
+		private final Properties properties;
+		private final Format format;
+
+		private PendingSave(Properties properties, Format format) {
+			this.properties = properties;
+			this.format = format;
+		}
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.InvalidPropertiesFormatException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streaming reader (StAX) and writer of properties XML files, in format of {@link Properties#loadFromXML(InputStream)}. Unlike
+ * {@link Properties}, document is not built in memory, so {@link #read(InputStream, BiConsumer)} can process large files with
+ * bounded memory. External DTD and entities are never loaded, {@code <!DOCTYPE>} must be the properties DTD.
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#loadPropertiesXMLStreaming(Path)
+ * @see PropertiesUtils#savePropertiesXMLStreaming(Path, Properties)
+ * @since 0.1.12
+ */
+public final class PropertiesXml {
+	private static final String PROPERTIES_DTD_URI = "http://java.sun.com/dtd/properties.dtd";
+	private static final String DOCTYPE = "<!DOCTYPE properties SYSTEM \"" + PROPERTIES_DTD_URI + "\">";
+	private static final Pattern DOCTYPE_PATTERN = Pattern.compile("<!DOCTYPE\\s+(\\S+)\\s+SYSTEM\\s+([\"'])(.*?)\\2\\s*>", Pattern.DOTALL);
+	private static final String ROOT = "properties";
+	private static final String COMMENT = "comment";
+	private static final String ENTRY = "entry";
+	private static final String KEY = "key";
+	private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+	private PropertiesXml() {
+	}
+
+	/**
+	 * Load properties from XML file. When file not exits, return empty properties.
+	 *
+	 * @param path XML path
+	 *
+	 * @return loaded properties
+	 *
+	 * @throws IOException                      error read from file
+	 * @throws InvalidPropertiesFormatException file is not valid properties XML
+	 * @since 0.1.12
+	 */
+	public static Properties load(@NotNull Path path) throws IOException {
+		final Properties properties = new Properties();
+		if (Files.isReadable(path)) {
+			try (InputStream in = Files.newInputStream(path)) {
+				read(in, properties::setProperty);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Read properties XML, entries are passed to consumer in document order
+	 *
+	 * @param in       input stream, not closed
+	 * @param consumer consumer of key and value
+	 *
+	 * @throws IOException                      error read from stream
+	 * @throws InvalidPropertiesFormatException stream is not valid properties XML
+	 * @since 0.1.12
+	 */
+	public static void read(@NotNull InputStream in, @NotNull BiConsumer<String, String> consumer) throws IOException {
+		XMLStreamReader reader = null;
+		try {
+			reader = INPUT_FACTORY.createXMLStreamReader(in);
+			readDocument(reader, consumer);
+		} catch (XMLStreamException e) {
+			if (e.getNestedException() instanceof IOException) {
+				throw (IOException) e.getNestedException();
+			}
+			throw new InvalidPropertiesFormatException(e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					// nothing to release
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write properties XML in UTF-8
+	 *
+	 * @param out        output stream, not closed
+	 * @param properties properties to write, keys and values must be strings
+	 * @param comment    comment, may be null
+	 *
+	 * @throws IOException error write to stream
+	 * @since 0.1.12
+	 */
+	public static void write(@NotNull OutputStream out, @NotNull Map<?, ?> properties, @Nullable String comment) throws IOException {
+		// written directly, XMLStreamWriter cannot write character references needed to keep tabs and line breaks in attributes
+		final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		writer.write(DOCTYPE);
+		writer.write("\n<" + ROOT + ">\n");
+		if (comment != null) {
+			writer.write("<" + COMMENT + ">");
+			writeEscaped(writer, comment, false);
+			writer.write("</" + COMMENT + ">\n");
+		}
+		for (Map.Entry<?, ?> entry : properties.entrySet()) {
+			writer.write("<" + ENTRY + " " + KEY + "=\"");
+			writeEscaped(writer, (String) entry.getKey(), true);
+			writer.write("\">");
+			writeEscaped(writer, (String) entry.getValue(), false);
+			writer.write("</" + ENTRY + ">\n");
+		}
+		writer.write("</" + ROOT + ">\n");
+		writer.flush();
+	}
+
+	/**
+	 * Save properties to XML file crash-safe
+	 *
+	 * @param path       XML path
+	 * @param properties properties to save
+	 *
+	 * @throws IOException error write to file
+	 * @see PropertiesUtils#savePropertiesAtomic(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public static void save(@NotNull Path path, @NotNull Properties properties) throws IOException {
+		final Properties copy = new Properties();
+		copy.putAll(properties);
+		PropertiesUtils.writeAtomic(path, out -> write(out, copy, null));
+	}
+
+	/**
+	 * Escape text like XML parser normalizes it: line breaks in text and tabs and line breaks in attributes are written as
+	 * character references.
+	 */
+	private static void writeEscaped(Writer writer, String text, boolean attribute) throws IOException {
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			switch (c) {
+				case '&':
+					writer.write("&amp;");
+					break;
+				case '<':
+					writer.write("&lt;");
+					break;
+				case '>':
+					writer.write("&gt;");
+					break;
+				case '"':
+					writer.write(attribute ? "&quot;" : "\"");
+					break;
+				case '\r':
+					writer.write("&#13;");
+					break;
+				case '\t':
+				case '\n':
+					if (attribute) {
+						writer.write("&#" + (int) c + ";");
+					} else {
+						writer.write(c);
+					}
+					break;
+				default:
+					writer.write(c);
+					break;
+			}
+		}
+	}
+
+	private static void readDocument(XMLStreamReader reader, BiConsumer<String, String> consumer) throws XMLStreamException,
+		InvalidPropertiesFormatException {
+		boolean doctype = false;
+		boolean root = false;
+		while (reader.hasNext()) {
+			final int event = reader.next();
+			if (event == XMLStreamConstants.DTD) {
+				checkDoctype(reader.getText());
+				doctype = true;
+			} else if (event == XMLStreamConstants.START_ELEMENT) {
+				if (root || !ROOT.equals(reader.getLocalName())) {
+					throw invalid(reader, "Unexpected element <" + reader.getLocalName() + ">");
+				}
+				if (!doctype) {
+					throw invalid(reader, "Missing DOCTYPE");
+				}
+				root = true;
+				readEntries(reader, consumer);
+			} else if (event == XMLStreamConstants.CHARACTERS && !reader.isWhiteSpace()) {
+				throw invalid(reader, "Unexpected text");
+			}
+		}
+		if (!root) {
+			throw new InvalidPropertiesFormatException("Missing <" + ROOT + "> element");
+		}
+	}
+
+	private static void readEntries(XMLStreamReader reader, BiConsumer<String, String> consumer) throws XMLStreamException,
+		InvalidPropertiesFormatException {
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			if (!"version".equals(reader.getAttributeLocalName(i))) {
+				throw invalid(reader, "Unexpected attribute " + reader.getAttributeLocalName(i));
+			}
+		}
+		boolean entries = false;
+		while (true) {
+			final int event = reader.next();
+			if (event == XMLStreamConstants.END_ELEMENT) {
+				return;
+			}
+			if (event == XMLStreamConstants.CHARACTERS && !reader.isWhiteSpace()) {
+				throw invalid(reader, "Unexpected text");
+			}
+			if (event != XMLStreamConstants.START_ELEMENT) {
+				continue;
+			}
+			final String name = reader.getLocalName();
+			if (ENTRY.equals(name)) {
+				entries = true;
+				final String key = reader.getAttributeValue(null, KEY);
+				if (key == null || reader.getAttributeCount() != 1) {
+					throw invalid(reader, "<" + ENTRY + "> must have only " + KEY + " attribute");
+				}
+				consumer.accept(key, reader.getElementText());
+			} else if (COMMENT.equals(name) && !entries) {
+				reader.getElementText();
+			} else {
+				throw invalid(reader, "Unexpected element <" + name + ">");
+			}
+		}
+	}
+
+	private static void checkDoctype(String doctype) throws InvalidPropertiesFormatException {
+		final Matcher matcher = DOCTYPE_PATTERN.matcher(doctype.trim());
+		if (!matcher.matches() || !ROOT.equals(matcher.group(1)) || !PROPERTIES_DTD_URI.equals(matcher.group(3))) {
+			throw new InvalidPropertiesFormatException("Invalid DOCTYPE: " + doctype);
+		}
+	}
+
+	private static InvalidPropertiesFormatException invalid(XMLStreamReader reader, String message) {
+		return new InvalidPropertiesFormatException(message + " at line " + reader.getLocation().getLineNumber());
+	}
+
+	private static XMLInputFactory createInputFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		return factory;
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thread-safe settings for read-mostly access from many threads. Settings are kept in immutable snapshot, which is swapped
+ * atomically on update, so reads never lock (unlike {@link Properties}, which is synchronized {@link java.util.Hashtable}).
+ * <br>
+ * Every update copies the snapshot, so related changes should be made in one {@link #update(Consumer)} batch.
+ * <br>
+ * Example usage: <pre>{@code
+ * SettingsStore store = PropertiesUtils.loadSettingsStore(settingsPath);
+ * // worker threads
+ * String endpoint = store.get("service.endpoint");
+ * // update
+ * store.update(settings -> {
+ *     settings.put("service.endpoint", endpoint);
+ *     settings.remove("service.proxy");
+ * });
+ * }</pre>
+ *
+ * @author architekt1024
+ * @see PropertiesUtils#loadSettingsStore(Path)
+ * @since 0.1.12
+ */
+public final class SettingsStore {
+	private final AtomicReference<Map<String, String>> snapshot;
+
+	/**
+	 * Create empty store
+	 *
+	 * @since 0.1.12
+	 */
+	public SettingsStore() {
+		this(Map.of());
+	}
+
+	/**
+	 * Create store with initial settings
+	 *
+	 * @param settings initial settings, copied
+	 *
+	 * @since 0.1.12
+	 */
+	public SettingsStore(@NotNull Map<String, String> settings) {
+		this.snapshot = new AtomicReference<>(Map.copyOf(settings));
+	}
+
+	/**
+	 * Get setting value
+	 *
+	 * @param key setting key
+	 *
+	 * @return value or {@code null} when setting not exists
+	 *
+	 * @since 0.1.12
+	 */
+	public @Nullable String get(@NotNull String key) {
+		return snapshot.get().get(key);
+	}
+
+	/**
+	 * Get setting value
+	 *
+	 * @param key          setting key
+	 * @param defaultValue value returned when setting not exists
+	 *
+	 * @return value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public String get(@NotNull String key, @Nullable String defaultValue) {
+		return snapshot.get().getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Get current snapshot of settings. Snapshot does not change, so many values can be read consistently.
+	 *
+	 * @return immutable map of settings
+	 *
+	 * @since 0.1.12
+	 */
+	public Map<String, String> snapshot() {
+		return snapshot.get();
+	}
+
+	/**
+	 * Set setting value
+	 *
+	 * @param key   setting key
+	 * @param value new value, {@code null} remove setting
+	 *
+	 * @since 0.1.12
+	 */
+	public void set(@NotNull String key, @Nullable String value) {
+		Objects.requireNonNull(key);
+		update(settings -> {
+			if (value == null) {
+				settings.remove(key);
+			} else {
+				settings.put(key, value);
+			}
+		});
+	}
+
+	/**
+	 * Update settings in one batch. Changes are applied to copy of current snapshot, which then replaces the snapshot atomically.
+	 * When other thread updated settings in the meantime, changes are applied again to the new snapshot, so they should have no
+	 * side effects.
+	 *
+	 * @param changes changes of mutable copy of settings
+	 *
+	 * @return new snapshot
+	 *
+	 * @since 0.1.12
+	 */
+	public Map<String, String> update(@NotNull Consumer<Map<String, String>> changes) {
+		while (true) {
+			final Map<String, String> current = snapshot.get();
+			final Map<String, String> copy = new HashMap<>(current);
+			changes.accept(copy);
+			if (copy.equals(current)) {
+				return current;
+			}
+			final Map<String, String> updated = Map.copyOf(copy);
+			if (snapshot.compareAndSet(current, updated)) {
+				return updated;
+			}
+		}
+	}
+
+	/**
+	 * Replace all settings
+	 *
+	 * @param settings new settings, copied
+	 *
+	 * @since 0.1.12
+	 */
+	public void replaceAll(@NotNull Map<String, String> settings) {
+		snapshot.set(Map.copyOf(settings));
+	}
+
+	/**
+	 * Replace all settings with properties file
+	 *
+	 * @param path properties path
+	 *
+	 * @throws IOException error read from file
+	 * @see PropertiesUtils#loadPropertiesMap(Path)
+	 * @since 0.1.12
+	 */
+	public void load(@NotNull Path path) throws IOException {
+		snapshot.set(PropertiesUtils.loadPropertiesMap(path));
+	}
+
+	/**
+	 * Save current snapshot to properties file, preserving comments and order of existing file
+	 *
+	 * @param path properties path
+	 *
+	 * @throws IOException error write to file
+	 * @see PropertiesUtils#savePropertiesIncremental(Path, Properties)
+	 * @since 0.1.12
+	 */
+	public void save(@NotNull Path path) throws IOException {
+		PropertiesUtils.savePropertiesIncremental(path, toProperties());
+	}
+
+	/**
+	 * Copy current snapshot to properties
+	 *
+	 * @return new properties
+	 *
+	 * @since 0.1.12
+	 */
+	public Properties toProperties() {
+		final Properties properties = new Properties();
+		properties.putAll(snapshot.get());
+		return properties;
+	}
+}
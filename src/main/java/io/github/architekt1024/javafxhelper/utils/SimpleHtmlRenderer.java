@@ -0,0 +1,360 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.scene.Node;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Render a safe HTML subset as {@link TextFlow} without starting a {@link javafx.scene.web.WebEngine}.
+ * <br>
+ * Supported tags: {@code b, strong, i, em, u, br, p, div, ul, ol, li, a} (only {@code http}, {@code https} and {@code mailto} links).
+ * Any other tag or attribute (e.g. {@code style}, {@code script}, {@code table}) makes the markup unsupported,
+ * and the caller should fall back to {@link WebUtils#loadContent(String, Double, Double)}.
+ *
+ * @author architekt1024
+ * @see WebUtils
+ * @since 0.1.12
+ */
+public final class SimpleHtmlRenderer {
+	private static final Set<String> IGNORED_TAGS = Set.of("html", "body");
+	private static final Set<String> LINK_ATTRIBUTES = Set.of("href", "title", "target");
+	private static final Pattern ATTRIBUTE = Pattern.compile("([a-zA-Z-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')\\s*");
+	private static final Pattern SAFE_LINK = Pattern.compile("^(https?:|mailto:).*", Pattern.CASE_INSENSITIVE);
+	private static final int MAX_ENTITY_LENGTH = 10;
+
+	private SimpleHtmlRenderer() {
+	}
+
+	/**
+	 * Check if HTML text contains only supported tags.
+	 *
+	 * @param htmlText HTML text
+	 *
+	 * @return true if text can be rendered by {@link #render(String, Consumer)}
+	 *
+	 * @since 0.1.12
+	 */
+	public static boolean isSupported(@Nullable String htmlText) {
+		return htmlText != null && parse(htmlText) != null;
+	}
+
+	/**
+	 * Render HTML text as {@link TextFlow}.
+	 *
+	 * @param htmlText    HTML text, cannot be null
+	 * @param linkHandler called with {@code href} when user click link, may be {@code null}
+	 *
+	 * @return rendered text or empty when HTML contains unsupported tags
+	 *
+	 * @since 0.1.12
+	 */
+	public static Optional<TextFlow> render(@NotNull String htmlText, @Nullable Consumer<String> linkHandler) {
+		final List<Segment> segments = parse(htmlText);
+		if (segments == null) {
+			return Optional.empty();
+		}
+		final TextFlow textFlow = new TextFlow();
+		for (Segment segment : segments) {
+			textFlow.getChildren().add(createNode(segment, linkHandler));
+		}
+		return Optional.of(textFlow);
+	}
+
+	private static Node createNode(Segment segment, Consumer<String> linkHandler) {
+		if (segment.getHref() != null) {
+			final Hyperlink hyperlink = new Hyperlink(segment.getText());
+			hyperlink.setStyle("-fx-padding: 0;" + segment.getStyle());
+			if (linkHandler != null) {
+				hyperlink.setOnAction(event -> linkHandler.accept(segment.getHref()));
+			}
+			return hyperlink;
+		}
+		final Text text = new Text(segment.getText());
+		text.setStyle(segment.getStyle());
+		text.setUnderline(segment.isUnderline());
+		return text;
+	}
+
+	/**
+	 * Parse HTML text to styled segments.
+	 *
+	 * @param htmlText HTML text
+	 *
+	 * @return segments or {@code null} when HTML contains unsupported markup
+	 */
+	static List<Segment> parse(@NotNull String htmlText) {
+		final Parser parser = new Parser();
+		int i = 0;
+		final int length = htmlText.length();
+		while (i < length) {
+			final char c = htmlText.charAt(i);
+			if (c == '<') {
+				if (htmlText.startsWith("<!--", i)) {
+					final int end = htmlText.indexOf("-->", i);
+					if (end < 0) {
+						return null;
+					}
+					i = end + 3;
+					continue;
+				}
+				final int end = htmlText.indexOf('>', i);
+				if (end < 0 || !parser.tag(htmlText.substring(i + 1, end).trim())) {
+					return null;
+				}
+				i = end + 1;
+			} else if (c == '&') {
+				final int end = htmlText.indexOf(';', i);
+				if (end < 0 || end - i > MAX_ENTITY_LENGTH) {
+					parser.text("&");
+					i++;
+				} else {
+					parser.text(StringEscapeUtils.unescapeHtml4(htmlText.substring(i, end + 1)));
+					i = end + 1;
+				}
+			} else if (Character.isWhitespace(c)) {
+				parser.whitespace();
+				i++;
+			} else {
+				parser.text(String.valueOf(c));
+				i++;
+			}
+		}
+		return parser.finish();
+	}
+
+	/**
+	 * Text fragment with the same style.
+	 */
+	static final class Segment {
+		private final String text;
+		private final boolean bold;
+		private final boolean italic;
+		private final boolean underline;
+		private final String href;
+
+		Segment(String text, boolean bold, boolean italic, boolean underline, String href) {
+			this.text = text;
+			this.bold = bold;
+			this.italic = italic;
+			this.underline = underline;
+			this.href = href;
+		}
+
+		String getText() {
+			return text;
+		}
+
+		boolean isBold() {
+			return bold;
+		}
+
+		boolean isItalic() {
+			return italic;
+		}
+
+		boolean isUnderline() {
+			return underline;
+		}
+
+		String getHref() {
+			return href;
+		}
+
+		String getStyle() {
+			return (bold ? "-fx-font-weight: bold;" : "") + (italic ? "-fx-font-style: italic;" : "");
+		}
+	}
+
+	private static final class Parser {
+		private final List<Segment> segments = new ArrayList<>();
+		private final StringBuilder current = new StringBuilder();
+		private final Deque<int[]> lists = new ArrayDeque<>();
+		private int bold;
+		private int italic;
+		private int underline;
+		private String href;
+		private boolean lineStart = true;
+
+		boolean tag(String tag) {
+			if (tag.startsWith("!")) {
+				// doctype
+				return tag.regionMatches(true, 1, "doctype", 0, 7);
+			}
+			final boolean closing = tag.startsWith("/");
+			String body = closing ? tag.substring(1).trim() : tag;
+			if (body.endsWith("/")) {
+				body = body.substring(0, body.length() - 1).trim();
+			}
+			int nameEnd = 0;
+			while (nameEnd < body.length() && Character.isLetterOrDigit(body.charAt(nameEnd))) {
+				nameEnd++;
+			}
+			final String name = body.substring(0, nameEnd).toLowerCase(Locale.ROOT);
+			final String attributes = body.substring(nameEnd).trim();
+			if ("a".equals(name)) {
+				return link(closing, attributes);
+			}
+			if (!attributes.isEmpty()) {
+				return false;
+			}
+			return element(name, closing);
+		}
+
+		private boolean element(String name, boolean closing) {
+			final int delta = closing ? -1 : 1;
+			switch (name) {
+				case "b":
+				case "strong":
+					flush();
+					bold = Math.max(0, bold + delta);
+					return true;
+				case "i":
+				case "em":
+					flush();
+					italic = Math.max(0, italic + delta);
+					return true;
+				case "u":
+					flush();
+					underline = Math.max(0, underline + delta);
+					return true;
+				case "br":
+					newLine(true);
+					return true;
+				case "p":
+				case "div":
+					newLine(false);
+					return true;
+				case "ul":
+				case "ol":
+					newLine(false);
+					if (closing) {
+						lists.poll();
+					} else {
+						lists.push("ol".equals(name) ? new int[]{1} : new int[0]);
+					}
+					return true;
+				case "li":
+					newLine(false);
+					if (!closing) {
+						listItem();
+					}
+					return true;
+				default:
+					return IGNORED_TAGS.contains(name);
+			}
+		}
+
+		private boolean link(boolean closing, String attributes) {
+			flush();
+			if (closing) {
+				href = null;
+				return true;
+			}
+			final Matcher matcher = ATTRIBUTE.matcher(attributes);
+			String linkHref = null;
+			int position = 0;
+			while (matcher.lookingAt()) {
+				final String attribute = matcher.group(1).toLowerCase(Locale.ROOT);
+				if (!LINK_ATTRIBUTES.contains(attribute)) {
+					return false;
+				}
+				if ("href".equals(attribute)) {
+					linkHref = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+				}
+				position = matcher.end();
+				matcher.region(position, attributes.length());
+			}
+			if (position != attributes.length() || linkHref == null) {
+				return false;
+			}
+			linkHref = StringEscapeUtils.unescapeHtml4(linkHref.trim());
+			if (!SAFE_LINK.matcher(linkHref).matches()) {
+				return false;
+			}
+			href = linkHref;
+			return true;
+		}
+
+		private void listItem() {
+			final int[] list = lists.peek();
+			final String indent = "  ".repeat(Math.max(0, lists.size() - 1));
+			if (list != null && list.length > 0) {
+				current.append(indent).append(list[0]++).append(". ");
+			} else {
+				current.append(indent).append("\u2022 ");
+			}
+			lineStart = false;
+		}
+
+		void text(String text) {
+			current.append(text);
+			lineStart = false;
+		}
+
+		void whitespace() {
+			if (!lineStart && (current.length() == 0 || current.charAt(current.length() - 1) != ' ')) {
+				current.append(' ');
+			}
+		}
+
+		private void newLine(boolean force) {
+			if (force || !lineStart) {
+				trimTrailingSpace();
+				current.append('\n');
+				lineStart = true;
+			}
+		}
+
+		private void trimTrailingSpace() {
+			if (current.length() > 0 && current.charAt(current.length() - 1) == ' ') {
+				current.setLength(current.length() - 1);
+			}
+		}
+
+		private void flush() {
+			if (current.length() > 0) {
+				segments.add(new Segment(current.toString(), bold > 0, italic > 0, underline > 0, href));
+				current.setLength(0);
+			}
+		}
+
+		List<Segment> finish() {
+			while (current.length() > 0 && Character.isWhitespace(current.charAt(current.length() - 1))) {
+				current.setLength(current.length() - 1);
+			}
+			flush();
+			return segments;
+		}
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable index of suggestions for autocomplete. Lookup is case-insensitive. Entries starting with query are returned first
+ * (sorted prefix array), then entries containing query (trigram index). Index for large datasets should be built off the FX thread
+ * using {@link #buildAsync(Collection)}.
+ *
+ * @author architekt1024
+ * @see AutoComplete
+ * @since 0.1.12
+ */
+public final class SuggestionIndex {
+	private static final int GRAM = 3;
+	private static final int[] EMPTY = new int[0];
+
+	private final String[] keys;
+	private final String[] values;
+	private final TrigramTable trigrams;
+
+	private SuggestionIndex(String[] keys, String[] values, TrigramTable trigrams) {
+		this.keys = keys;
+		this.values = values;
+		this.trigrams = trigrams;
+	}
+
+	/**
+	 * Build index. Null and duplicated entries are ignored.
+	 *
+	 * @param entries suggestions, cannot be null
+	 *
+	 * @return new index
+	 *
+	 * @since 0.1.12
+	 */
+	public static SuggestionIndex build(@NotNull Collection<String> entries) {
+		final String[][] pairs = entries.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.map(entry -> new String[]{normalize(entry), entry})
+			.sorted((o1, o2) -> {
+				final int result = o1[0].compareTo(o2[0]);
+				return result != 0 ? result : o1[1].compareTo(o2[1]);
+			})
+			.toArray(String[][]::new);
+		final String[] keys = new String[pairs.length];
+		final String[] sorted = new String[pairs.length];
+		final TrigramTable trigrams = new TrigramTable();
+		for (int id = 0; id < pairs.length; id++) {
+			keys[id] = pairs[id][0];
+			sorted[id] = pairs[id][1];
+			final String key = keys[id];
+			for (int i = 0; i + GRAM <= key.length(); i++) {
+				trigrams.add(trigram(key, i), id);
+			}
+		}
+		trigrams.trim();
+		return new SuggestionIndex(keys, sorted, trigrams);
+	}
+
+	/**
+	 * Build index in background using {@link CompletableFuture#supplyAsync}.
+	 *
+	 * @param entries suggestions, cannot be null
+	 *
+	 * @return future index
+	 *
+	 * @see #build(Collection)
+	 * @since 0.1.12
+	 */
+	public static CompletableFuture<SuggestionIndex> buildAsync(@NotNull Collection<String> entries) {
+		Objects.requireNonNull(entries);
+		return CompletableFuture.supplyAsync(() -> build(entries));
+	}
+
+	/**
+	 * Find suggestions
+	 *
+	 * @param query text typed by user
+	 * @param limit maximum number of results
+	 *
+	 * @return suggestions, entries starting with query first
+	 *
+	 * @since 0.1.12
+	 */
+	public List<String> find(@Nullable String query, int limit) {
+		if (query == null || query.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		final String key = normalize(query);
+		final List<String> result = new ArrayList<>(Math.min(limit, 16));
+		final int first = lowerBound(key);
+		int prefixEnd = first;
+		while (prefixEnd < keys.length && result.size() < limit && keys[prefixEnd].startsWith(key)) {
+			result.add(values[prefixEnd]);
+			prefixEnd++;
+		}
+		if (result.size() < limit && key.length() >= GRAM) {
+			for (int id : candidates(key)) {
+				if ((id < first || id >= prefixEnd) && keys[id].contains(key)) {
+					result.add(values[id]);
+					if (result.size() == limit) {
+						break;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get number of entries
+	 *
+	 * @return index size
+	 *
+	 * @since 0.1.12
+	 */
+	public int size() {
+		return keys.length;
+	}
+
+	private int[] candidates(String key) {
+		int[] smallest = null;
+		for (int i = 0; i + GRAM <= key.length(); i++) {
+			final int[] ids = trigrams.get(trigram(key, i));
+			if (smallest == null || ids.length < smallest.length) {
+				smallest = ids;
+			}
+		}
+		return smallest == null ? EMPTY : smallest;
+	}
+
+	private int lowerBound(String key) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static String normalize(String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+	private static long trigram(String text, int offset) {
+		return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+	}
+
+	/**
+	 * Open addressing hash table: trigram -> sorted entry ids.
+	 */
+	private static final class TrigramTable {
+		private long[] trigrams = new long[1024];
+		private int[][] ids = new int[1024][];
+		private int[] sizes = new int[1024];
+		private int count;
+
+		void add(long trigram, int id) {
+			if (count * 2 >= trigrams.length) {
+				resize();
+			}
+			final int slot = slot(trigram);
+			int[] list = ids[slot];
+			if (list == null) {
+				trigrams[slot] = trigram;
+				list = new int[2];
+				ids[slot] = list;
+				count++;
+			}
+			final int size = sizes[slot];
+			if (size > 0 && list[size - 1] == id) {
+				return;
+			}
+			if (size == list.length) {
+				list = Arrays.copyOf(list, size * 2);
+				ids[slot] = list;
+			}
+			list[size] = id;
+			sizes[slot] = size + 1;
+		}
+
+		int[] get(long trigram) {
+			final int[] list = ids[slot(trigram)];
+			return list == null ? EMPTY : list;
+		}
+
+		void trim() {
+			for (int i = 0; i < ids.length; i++) {
+				if (ids[i] != null && ids[i].length != sizes[i]) {
+					ids[i] = Arrays.copyOf(ids[i], sizes[i]);
+				}
+			}
+			sizes = null;
+		}
+
+		private int slot(long trigram) {
+			final int mask = trigrams.length - 1;
+			int slot = Long.hashCode(trigram * 0x9E3779B97F4A7C15L) & mask;
+			while (ids[slot] != null && trigrams[slot] != trigram) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private void resize() {
+			final long[] oldTrigrams = trigrams;
+			final int[][] oldIds = ids;
+			final int[] oldSizes = sizes;
+			trigrams = new long[oldTrigrams.length * 2];
+			ids = new int[oldTrigrams.length * 2][];
+			sizes = new int[oldTrigrams.length * 2];
+			for (int i = 0; i < oldTrigrams.length; i++) {
+				if (oldIds[i] != null) {
+					final int slot = slot(oldTrigrams[i]);
+					trigrams[slot] = oldTrigrams[i];
+					ids[slot] = oldIds[i];
+					sizes[slot] = oldSizes[i];
+				}
+			}
+		}
+	}
+}
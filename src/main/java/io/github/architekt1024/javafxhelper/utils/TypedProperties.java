@@ -0,0 +1,286 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Typed view of properties. Parsed values are cached per key, and cached value is used as long as raw value of property is the same,
+ * so changes in underlying properties are visible immediately.
+ * <br>
+ * When value is missing or cannot be parsed, default value is returned (invalid value is logged once).
+ * <br>
+ * Example usage: <pre>{@code
+ * TypedProperties settings = TypedProperties.of(PropertiesUtils.loadProperties(path));
+ * int retries = settings.getInt("http.retries", 3);
+ * Duration timeout = settings.getDuration("http.timeout", Duration.ofSeconds(30));
+ * }</pre>
+ *
+ * @author architekt1024
+ * @since 0.1.12
+ */
+public final class TypedProperties {
+	private static final Logger LOG = LoggerFactory.getLogger(TypedProperties.class);
+	private static final Object INVALID = new Object();
+	private static final Function<String, Integer> INT = value -> Integer.valueOf(value.trim());
+	private static final Function<String, Long> LONG = value -> Long.valueOf(value.trim());
+	private static final Function<String, Double> DOUBLE = value -> Double.valueOf(value.trim());
+	private static final Function<String, Boolean> BOOLEAN = TypedProperties::parseBoolean;
+	private static final Function<String, Duration> DURATION = value -> Duration.parse(value.trim());
+	private static final Function<String, List<String>> LIST = TypedProperties::parseList;
+
+	private final Function<String, String> source;
+	private final Map<String, Parsed> cache = new ConcurrentHashMap<>();
+
+	private TypedProperties(Function<String, String> source) {
+		this.source = source;
+	}
+
+	/**
+	 * Create typed view of properties
+	 *
+	 * @param properties properties, cannot be null
+	 *
+	 * @return typed properties
+	 *
+	 * @since 0.1.12
+	 */
+	public static TypedProperties of(@NotNull Properties properties) {
+		Objects.requireNonNull(properties);
+		return new TypedProperties(properties::getProperty);
+	}
+
+	/**
+	 * Create typed view of properties map, e.g. from {@link PropertiesUtils#loadPropertiesMap(java.nio.file.Path)}
+	 *
+	 * @param properties properties, cannot be null
+	 *
+	 * @return typed properties
+	 *
+	 * @since 0.1.12
+	 */
+	public static TypedProperties of(@NotNull Map<String, String> properties) {
+		Objects.requireNonNull(properties);
+		return new TypedProperties(properties::get);
+	}
+
+	/**
+	 * Get string value
+	 *
+	 * @param key          property key
+	 * @param defaultValue value returned when property is missing
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public String getString(@NotNull String key, @Nullable String defaultValue) {
+		final String value = source.apply(key);
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * Get int value
+	 *
+	 * @param key          property key
+	 * @param defaultValue value returned when property is missing or invalid
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public int getInt(@NotNull String key, int defaultValue) {
+		return get(key, INT, defaultValue);
+	}
+
+	/**
+	 * Get long value
+	 *
+	 * @param key          property key
+	 * @param defaultValue value returned when property is missing or invalid
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public long getLong(@NotNull String key, long defaultValue) {
+		return get(key, LONG, defaultValue);
+	}
+
+	/**
+	 * Get double value
+	 *
+	 * @param key          property key
+	 * @param defaultValue value returned when property is missing or invalid
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public double getDouble(@NotNull String key, double defaultValue) {
+		return get(key, DOUBLE, defaultValue);
+	}
+
+	/**
+	 * Get boolean value, {@code true}/{@code false} (case insensitive)
+	 *
+	 * @param key          property key
+	 * @param defaultValue value returned when property is missing or invalid
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public boolean getBoolean(@NotNull String key, boolean defaultValue) {
+		return get(key, BOOLEAN, defaultValue);
+	}
+
+	/**
+	 * Get duration value in ISO-8601 format, e.g. {@code PT30S}
+	 *
+	 * @param key          property key
+	 * @param defaultValue value returned when property is missing or invalid
+	 *
+	 * @return property value or default value
+	 *
+	 * @see Duration#parse(CharSequence)
+	 * @since 0.1.12
+	 */
+	public Duration getDuration(@NotNull String key, @Nullable Duration defaultValue) {
+		return get(key, DURATION, defaultValue);
+	}
+
+	/**
+	 * Get enum value by constant name
+	 *
+	 * @param key          property key
+	 * @param enumClass    enum class, cannot be null
+	 * @param defaultValue value returned when property is missing or invalid
+	 * @param <E>          enum type
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public <E extends Enum<E>> E getEnum(@NotNull String key, @NotNull Class<E> enumClass, @Nullable E defaultValue) {
+		return get(key, enumClass, value -> Enum.valueOf(enumClass, value.trim()), defaultValue);
+	}
+
+	/**
+	 * Get list of comma separated values. Values are trimmed and empty values are skipped.
+	 *
+	 * @param key property key
+	 *
+	 * @return unmodifiable list, empty when property is missing
+	 *
+	 * @since 0.1.12
+	 */
+	public List<String> getList(@NotNull String key) {
+		return get(key, LIST, Collections.emptyList());
+	}
+
+	/**
+	 * Get value parsed by custom parser. Parsed values are cached per parser instance, so parser should be constant.
+	 *
+	 * @param key          property key
+	 * @param parser       parser, throws exception when value is invalid
+	 * @param defaultValue value returned when property is missing or invalid
+	 * @param <T>          value type
+	 *
+	 * @return property value or default value
+	 *
+	 * @since 0.1.12
+	 */
+	public <T> T get(@NotNull String key, @NotNull Function<String, T> parser, @Nullable T defaultValue) {
+		return get(key, parser, parser, defaultValue);
+	}
+
+	/**
+	 * Clear parsed values
+	 *
+	 * @since 0.1.12
+	 */
+	public void invalidate() {
+		cache.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T get(String key, Object type, Function<String, T> parser, T defaultValue) {
+		final String raw = source.apply(key);
+		if (raw == null) {
+			return defaultValue;
+		}
+		Parsed parsed = cache.get(key);
+		if (parsed == null || parsed.type != type || !raw.equals(parsed.raw)) {
+			parsed = new Parsed(raw, type, parse(key, raw, parser));
+			cache.put(key, parsed);
+		}
+		return parsed.value == INVALID ? defaultValue : (T) parsed.value;
+	}
+
+	private static Object parse(String key, String raw, Function<String, ?> parser) {
+		try {
+			return Objects.requireNonNull(parser.apply(raw));
+		} catch (RuntimeException e) {
+			LOG.warn("Invalid value of property {}: {}", key, raw);
+			return INVALID;
+		}
+	}
+
+	private static Boolean parseBoolean(String value) {
+		final String trimmed = value.trim();
+		if ("true".equalsIgnoreCase(trimmed)) {
+			return Boolean.TRUE;
+		}
+		if ("false".equalsIgnoreCase(trimmed)) {
+			return Boolean.FALSE;
+		}
+		throw new IllegalArgumentException(value);
+	}
+
+	private static List<String> parseList(String value) {
+		return Arrays.stream(value.split(","))
+			.map(String::trim)
+			.filter(item -> !item.isEmpty())
+			.collect(Collectors.toUnmodifiableList());
+	}
+
+	private static final class Parsed {
+		private final String raw;
+		private final Object type;
+		private final Object value;
+
+		private Parsed(String raw, Object type, Object value) {
+			this.raw = raw;
+			this.type = type;
+			this.value = value;
+		}
+	}
+}
@@ -19,6 +19,7 @@
 module io.github.architekt1024.javafxhelper {
 	//modules
 	requires java.desktop;
+	requires java.xml;
 
 	requires javafx.base;
 	requires javafx.controls;
@@ -45,4 +46,7 @@ module io.github.architekt1024.javafxhelper {
 	exports io.github.architekt1024.javafxhelper.tableview;
 	exports io.github.architekt1024.javafxhelper.treeview;
 	exports io.github.architekt1024.javafxhelper.utils;
+
+	//services
+	uses io.github.architekt1024.javafxhelper.dialog.DialogProvider;
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.List;
+
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ButtonType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchConfirmationTest {
+	private static final List<String> ITEMS = List.of("a.txt", "b.txt", "c.txt", "d.txt");
+
+	@AfterEach
+	void tearDown() {
+		DialogProviders.set(null);
+	}
+
+	@Test
+	void yesToAll() {
+		//given
+		HeadlessDialogProvider provider = new HeadlessDialogProvider()
+			.onAlert(Alert.AlertType.CONFIRMATION, null, "Delete a.txt\\?", ButtonType.NO)
+			.onAlert(Alert.AlertType.CONFIRMATION, null, null, BatchConfirmation.YES_TO_ALL);
+		DialogProviders.set(provider);
+
+		//when
+		List<Boolean> decisions = BatchConfirmation.confirm(ITEMS, item -> "Delete " + item + "?", "Delete", null, null);
+
+		//then
+		assertEquals(List.of(false, true, true, true), decisions);
+		assertEquals(2, provider.getRecords().size());
+		assertEquals("Delete (2/4)", provider.getRecords().get(1).getTitle());
+	}
+
+	@Test
+	void customButtonTexts() {
+		//given
+		DialogProviders.set(new HeadlessDialogProvider()
+			.onAlert(null, null, "Delete a.txt\\?", ButtonType.YES)
+			.onAlert(null, null, null, new ButtonType("None", ButtonBar.ButtonData.NO)));
+
+		//when
+		List<Boolean> decisions = BatchConfirmation.confirm(ITEMS, item -> "Delete " + item + "?", null, null, null, "All", "None");
+
+		//then
+		assertEquals(List.of(true, false, false, false), decisions);
+	}
+
+	@Test
+	void cancel() {
+		//given
+		DialogProviders.set(new HeadlessDialogProvider()
+			.onAlert(null, null, "Delete c.txt\\?", ButtonType.CANCEL)
+			.onAlert(null, null, null, ButtonType.YES));
+
+		//when
+		List<Boolean> decisions = new DialogService("Delete", null)
+			.showBatchConfirmDialog(ITEMS, item -> "Delete " + item + "?", null);
+
+		//then
+		assertEquals(List.of(true, true), decisions);
+	}
+
+	@Test
+	void duplicatedItems() {
+		//given
+		DialogProviders.set(new HeadlessDialogProvider()
+			.onAlert(null, null, null, ButtonType.YES));
+		List<String> items = List.of("a.txt", "a.txt");
+
+		//when
+		List<Boolean> decisions = BatchConfirmation.confirm(items, item -> "Delete " + item + "?", null, null, null);
+
+		//then
+		assertEquals(List.of(true, true), decisions);
+	}
+
+	@Test
+	void empty() {
+		//when
+		List<Boolean> decisions = BatchConfirmation.confirm(List.of(), Object::toString, null, null, null);
+
+		//then
+		assertTrue(decisions.isEmpty());
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DialogMonitorTest {
+	private final List<DialogMetrics> metrics = new ArrayList<>();
+	private final DialogMetricsListener listener = metrics::add;
+
+	@AfterEach
+	void tearDown() {
+		DialogMonitor.removeListener(listener);
+	}
+
+	@Test
+	void withoutListener() {
+		//when
+		DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.ALERT, "Title");
+		measurement.constructed();
+		measurement.finished(null);
+
+		//then
+		assertTrue(metrics.isEmpty());
+	}
+
+	@Test
+	void publishMetrics() {
+		//given
+		DialogMonitor.addListener(listener);
+
+		//when
+		DialogMonitor.Measurement measurement = DialogMonitor.start(DialogRecord.Kind.TEXT_INPUT, "Title");
+		measurement.constructed();
+		measurement.shown();
+		measurement.finished("answer");
+
+		//then
+		assertEquals(1, metrics.size());
+		DialogMetrics result = metrics.get(0);
+		assertEquals(DialogRecord.Kind.TEXT_INPUT, result.getKind());
+		assertEquals("Title", result.getTitle());
+		assertEquals("answer", result.getResult());
+		assertNotNull(result.getTimeToVisible());
+		assertFalse(result.getBlockedTime().isNegative());
+	}
+
+	@Test
+	void callSiteOutsideLibrary() {
+		//given
+		DialogMonitor.addListener(listener);
+
+		//when
+		// this test is in library package, so the first frame outside the library is Optional#ifPresent calling the lambda
+		Optional.of("Title").ifPresent(title -> DialogMonitor.start(DialogRecord.Kind.ALERT, title).finished(null));
+
+		//then
+		StackTraceElement callSite = metrics.get(0).getCallSite();
+		assertNotNull(callSite);
+		assertEquals(Optional.class.getName(), callSite.getClassName());
+		assertEquals("ifPresent", callSite.getMethodName());
+	}
+
+	@Test
+	void unknownTimeToVisible() {
+		//given
+		DialogMonitor.addListener(listener);
+
+		//when
+		DialogMonitor.start(DialogRecord.Kind.FILE, null).finished(null);
+
+		//then
+		assertNull(metrics.get(0).getTimeToVisible());
+		assertNull(metrics.get(0).getResult());
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectoryLoaderTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void loadInBatches() throws IOException {
+		//given
+		for (int i = 0; i < 2500; i++) {
+			Files.createFile(tempDir.resolve("file" + i + ".txt"));
+		}
+		Files.createDirectory(tempDir.resolve("directory"));
+		List<Integer> batchSizes = new ArrayList<>();
+		List<FileEntry> entries = new ArrayList<>();
+		boolean[] complete = new boolean[1];
+
+		//when
+		new DirectoryLoader(tempDir, entry -> !entry.getName().equals("file0.txt"), new DirectoryLoader.Callback() {
+			@Override
+			public void loaded(List<FileEntry> batch, boolean last) {
+				batchSizes.add(batch.size());
+				entries.addAll(batch);
+				complete[0] = last;
+			}
+
+			@Override
+			public void failed(IOException e) {
+				fail(e);
+			}
+		}).run();
+
+		//then
+		assertTrue(complete[0]);
+		assertEquals(2500, entries.size());
+		assertTrue(batchSizes.stream().allMatch(size -> size <= DirectoryLoader.BATCH_SIZE));
+		assertEquals(1, entries.stream().filter(FileEntry::isDirectory).count());
+	}
+
+	@Test
+	void missingDirectory() {
+		//given
+		List<IOException> errors = new ArrayList<>();
+
+		//when
+		new DirectoryLoader(tempDir.resolve("missing"), entry -> true, new DirectoryLoader.Callback() {
+			@Override
+			public void loaded(List<FileEntry> batch, boolean last) {
+				fail("unexpected batch");
+			}
+
+			@Override
+			public void failed(IOException e) {
+				errors.add(e);
+			}
+		}).run();
+
+		//then
+		assertEquals(1, errors.size());
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectoryPreflightTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void reachableDirectory() {
+		//when
+		Optional<File> directory = DirectoryPreflight.resolve(tempDir.toFile(), null).join();
+
+		//then
+		assertEquals(Optional.of(tempDir.toFile().getAbsoluteFile()), directory);
+	}
+
+	@Test
+	void missingDirectoryFallbackToParent() {
+		//when
+		Optional<File> directory = DirectoryPreflight.resolve(tempDir.resolve("missing/child").toFile(), null).join();
+
+		//then
+		assertEquals(Optional.of(tempDir.toFile().getAbsoluteFile()), directory);
+	}
+
+	@Test
+	void hangingDirectory() {
+		//given
+		File dead = new File("/mnt/dead");
+		File parent = new File("/mnt");
+
+		//when
+		Optional<File> directory = DirectoryPreflight.resolve(List.of(dead, parent), Duration.ofMillis(50),
+			file -> file.equals(dead) ? new CompletableFuture<>() : CompletableFuture.completedFuture(true)).join();
+
+		//then
+		assertEquals(Optional.of(parent), directory);
+	}
+
+	@Test
+	void waitForBetterCandidate() {
+		//given
+		File first = new File("first");
+		CompletableFuture<Boolean> firstCheck = new CompletableFuture<>();
+
+		//when
+		CompletableFuture<Optional<File>> directory = DirectoryPreflight.resolve(List.of(first, new File("second")), Duration.ofSeconds(10),
+			file -> file.equals(first) ? firstCheck : CompletableFuture.completedFuture(true));
+
+		//then
+		assertFalse(directory.isDone());
+		firstCheck.complete(true);
+		assertEquals(Optional.of(first), directory.join());
+	}
+
+	@Test
+	void rememberedDirectory() {
+		//given
+		DirectoryPreflight.remember("test-import", tempDir.toFile());
+
+		//when
+		Optional<File> directory = DirectoryPreflight.resolve(null, "test-import").join();
+
+		//then
+		assertEquals(Optional.of(tempDir.toFile()), directory);
+	}
+
+	@Test
+	void noCandidates() {
+		//when
+		Optional<File> directory = DirectoryPreflight.resolve(null, null).join();
+
+		//then
+		assertEquals(Optional.empty(), directory);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EtaEstimatorTest {
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	void unknownWithoutProgress() {
+		//given
+		EtaEstimator estimator = new EtaEstimator(0);
+
+		//when
+		estimator.update(0, SECOND);
+
+		//then
+		assertNull(estimator.getRemaining());
+	}
+
+	@Test
+	void constantRate() {
+		//given
+		EtaEstimator estimator = new EtaEstimator(0);
+
+		//when
+		for (int i = 1; i <= 4; i++) {
+			estimator.update(i * 0.1, i * SECOND);
+		}
+
+		//then
+		assertEquals(6.0, estimator.getRemaining().toMillis() / 1000.0, 0.01);
+	}
+
+	@Test
+	void ignoreTooFrequentSamples() {
+		//given
+		EtaEstimator estimator = new EtaEstimator(0);
+		estimator.update(0.5, 10 * SECOND);
+
+		//when
+		estimator.update(0.9, 10 * SECOND + 1000);
+
+		//then
+		assertEquals(10.0, estimator.getRemaining().toMillis() / 1000.0, 0.01);
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.List;
+
+import javafx.stage.FileChooser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtensionFilterMatcherTest {
+
+	@Test
+	void suffix() {
+		//given
+		ExtensionFilterMatcher matcher = ExtensionFilterMatcher.of(new FileChooser.ExtensionFilter("Text", "*.txt", "*.CSV"));
+
+		//then
+		assertTrue(matcher.matches("notes.txt"));
+		assertTrue(matcher.matches("DATA.csv"));
+		assertFalse(matcher.matches("image.png"));
+		assertFalse(matcher.matches("txt"));
+	}
+
+	@Test
+	void glob() {
+		//given
+		ExtensionFilterMatcher matcher = ExtensionFilterMatcher.of(List.of("report-*.pdf", "*.log.?"));
+
+		//then
+		assertTrue(matcher.matches("report-2020.pdf"));
+		assertTrue(matcher.matches("app.log.1"));
+		assertFalse(matcher.matches("invoice.pdf"));
+	}
+
+	@Test
+	void all() {
+		//then
+		assertSame(ExtensionFilterMatcher.ALL, ExtensionFilterMatcher.of(new FileChooser.ExtensionFilter("All", "*.*")));
+		assertSame(ExtensionFilterMatcher.ALL, ExtensionFilterMatcher.of((FileChooser.ExtensionFilter) null));
+		assertTrue(ExtensionFilterMatcher.ALL.matches("anything"));
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSelectionTest {
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void tearDown() {
+		DialogProviders.set(null);
+	}
+
+	@Test
+	void metadataInFilesOrder() throws IOException {
+		//given
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			files.add(Files.writeString(tempDir.resolve("file" + i + ".txt"), "x".repeat(i)).toFile());
+		}
+		files.add(tempDir.resolve("missing.txt").toFile());
+		FileSelection selection = new FileSelection(files);
+
+		//when
+		List<FileMetadata> metadata = selection.getMetadata().join();
+
+		//then
+		assertSame(selection.getMetadata(), selection.getMetadata());
+		assertEquals(301, metadata.size());
+		for (int i = 0; i < 300; i++) {
+			assertEquals(files.get(i), metadata.get(i).getFile());
+			assertEquals(i, metadata.get(i).getSize());
+			assertNotNull(metadata.get(i).getLastModified());
+			assertNull(metadata.get(i).getError());
+		}
+		assertEquals(-1, metadata.get(300).getSize());
+		assertNotNull(metadata.get(300).getError());
+	}
+
+	@Test
+	void showOpenMultipleDialog() {
+		//given
+		List<File> files = List.of(new File("a.csv"), new File("b.csv"));
+		DialogProviders.set(new HeadlessDialogProvider().onMultipleFileDialog(null, files));
+
+		//when
+		FileSelection selection = FileDialog.showOpenMultipleDialog(null);
+
+		//then
+		assertEquals(files, selection.getFiles());
+		assertEquals(2, selection.size());
+	}
+
+	@Test
+	void cancelled() {
+		//given
+		DialogProviders.set(new HeadlessDialogProvider());
+
+		//when
+		FileSelection selection = FileDialog.showOpenMultipleDialog(null);
+
+		//then
+		assertTrue(selection.isEmpty());
+		assertTrue(selection.getMetadata().join().isEmpty());
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessDialogProviderTest {
+	private HeadlessDialogProvider provider;
+	private DialogService dialogService;
+
+	@BeforeEach
+	void setUp() {
+		provider = new HeadlessDialogProvider()
+			.onAlert(Alert.AlertType.CONFIRMATION, null, "Delete .*", ButtonType.YES)
+			.onAlert(null, "Info", null, ButtonType.OK)
+			.onTextInput(null, "Code", "C-1")
+			.onFileDialog(FileRequest.Type.OPEN_FILE, null, new File("data.csv"));
+		DialogProviders.set(provider);
+		dialogService = new DialogService("Info", null);
+	}
+
+	@AfterEach
+	void tearDown() {
+		DialogProviders.set(null);
+	}
+
+	@Test
+	void alert() {
+		//when
+		Optional<ButtonType> result = dialogService.showYesNoConfirmDialog("Delete file.txt?");
+
+		//then
+		assertEquals(Optional.of(ButtonType.YES), result);
+		List<DialogRecord> records = provider.getRecords();
+		assertEquals(1, records.size());
+		assertEquals(DialogRecord.Kind.ALERT, records.get(0).getKind());
+		assertEquals(Alert.AlertType.CONFIRMATION, records.get(0).getAlertType());
+		assertEquals("Delete file.txt?", records.get(0).getContentText());
+		assertEquals(ButtonType.YES, records.get(0).getAnswer());
+	}
+
+	@Test
+	void firstMatchingRule() {
+		//when
+		Optional<ButtonType> result = dialogService.showYesNoConfirmDialog("Save file.txt?");
+
+		//then
+		assertEquals(Optional.of(ButtonType.OK), result);
+	}
+
+	@Test
+	void unmatched() {
+		//given
+		DialogService service = new DialogService("Other", null);
+
+		//when
+		Optional<ButtonType> result = service.showWarningDialog("warning");
+
+		//then
+		assertTrue(result.isEmpty());
+		provider.setFailOnUnmatched(true);
+		assertThrows(IllegalStateException.class, () -> service.showWarningDialog("warning"));
+	}
+
+	@Test
+	void textInput() {
+		//when
+		Optional<String> result = dialogService.showTextInputDialog("Code", null);
+
+		//then
+		assertEquals(Optional.of("C-1"), result);
+		assertEquals(DialogRecord.Kind.TEXT_INPUT, provider.getRecords().get(0).getKind());
+	}
+
+	@Test
+	void fileDialog() {
+		//when
+		Optional<File> open = FileDialog.showOpenFileDialog(null);
+		Optional<File> save = FileDialog.showSaveDialog(null);
+
+		//then
+		assertEquals(Optional.of(new File("data.csv")), open);
+		assertTrue(save.isEmpty());
+		assertEquals(2, provider.getRecords().size());
+	}
+
+	@Test
+	void progress() {
+		//when
+		boolean completed = dialogService.showProgressDialog(reporter -> reporter.updateProgress(1, 1), "Import");
+		boolean failed = dialogService.showProgressDialog(reporter -> {
+			throw new IllegalStateException("failed");
+		}, "Import");
+
+		//then
+		assertTrue(completed);
+		assertFalse(failed);
+		assertEquals(DialogRecord.Kind.PROGRESS, provider.getRecords().get(0).getKind());
+		assertEquals("Import", provider.getRecords().get(0).getHeaderText());
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.util.List;
+
+import javafx.scene.control.Alert;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationBufferTest {
+	private static final long DURATION = 1000;
+
+	@Test
+	void collapseDuplicates() {
+		//given
+		NotificationBuffer buffer = new NotificationBuffer(3, DURATION);
+
+		//when
+		for (int i = 0; i < 500; i++) {
+			buffer.offer(Alert.AlertType.INFORMATION, "Saved");
+		}
+		buffer.offer(Alert.AlertType.ERROR, "Saved");
+		boolean changed = buffer.drain(0);
+
+		//then
+		assertTrue(changed);
+		List<NotificationBuffer.Entry> visible = buffer.getVisible();
+		assertEquals(2, visible.size());
+		assertEquals(500, visible.get(0).getCount());
+		assertEquals("Saved (\u00D7500)", visible.get(0).getText());
+		assertEquals(Alert.AlertType.ERROR, visible.get(1).getType());
+	}
+
+	@Test
+	void duplicateOfVisibleExtendsTime() {
+		//given
+		NotificationBuffer buffer = new NotificationBuffer(3, DURATION);
+		buffer.offer(null, "message");
+		buffer.drain(0);
+
+		//when
+		buffer.offer(null, "message");
+		buffer.drain(800);
+
+		//then
+		assertFalse(buffer.expire(1000));
+		assertEquals(2, buffer.getVisible().get(0).getCount());
+		assertTrue(buffer.expire(1800));
+		assertTrue(buffer.isEmpty());
+	}
+
+	@Test
+	void pendingShownAfterExpire() {
+		//given
+		NotificationBuffer buffer = new NotificationBuffer(2, DURATION);
+		buffer.offer(null, "1");
+		buffer.offer(null, "2");
+		buffer.offer(null, "3");
+
+		//when
+		buffer.drain(0);
+
+		//then
+		assertEquals(2, buffer.getVisible().size());
+		assertEquals(1, buffer.getPendingCount());
+		buffer.dismiss(buffer.getVisible().get(0), 10);
+		assertEquals("2", buffer.getVisible().get(0).getMessage());
+		assertEquals("3", buffer.getVisible().get(1).getMessage());
+		assertEquals(0, buffer.getPendingCount());
+	}
+
+	@Test
+	void dropOldestPending() {
+		//given
+		NotificationBuffer buffer = new NotificationBuffer(1, DURATION);
+
+		//when
+		for (int i = 0; i < NotificationBuffer.MAX_PENDING + 11; i++) {
+			buffer.offer(null, "message " + i);
+		}
+		buffer.drain(0);
+
+		//then
+		assertEquals("message 0", buffer.getVisible().get(0).getMessage());
+		assertEquals(NotificationBuffer.MAX_PENDING, buffer.getPendingCount());
+		assertEquals(10, buffer.getDroppedCount());
+	}
+
+	@Test
+	void burstFillsFreeSlotsBeforeDropping() {
+		//given
+		NotificationBuffer buffer = new NotificationBuffer(5, DURATION);
+
+		//when
+		for (int i = 0; i < NotificationBuffer.MAX_PENDING + 5; i++) {
+			buffer.offer(null, "message " + i);
+		}
+		buffer.drain(0);
+
+		//then
+		assertEquals(5, buffer.getVisible().size());
+		assertEquals(NotificationBuffer.MAX_PENDING, buffer.getPendingCount());
+		assertEquals(0, buffer.getDroppedCount());
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentFilesTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void mostRecentFirst() throws IOException {
+		//given
+		RecentFiles recentFiles = RecentFiles.open(tempDir.resolve("recent"), 2);
+		File a = createFile("a.txt");
+		File b = createFile("b.txt");
+		File c = createFile("c.txt");
+
+		//when
+		recentFiles.add("import", a);
+		recentFiles.add("import", b);
+		recentFiles.add("import", c);
+		recentFiles.add("import", b);
+		recentFiles.add(null, a);
+
+		//then
+		assertEquals(List.of(b, c), recentFiles.getRecent("import"));
+		assertEquals(List.of(a), recentFiles.getRecent(RecentFiles.DEFAULT_PURPOSE));
+		assertTrue(recentFiles.getRecent("export").isEmpty());
+	}
+
+	@Test
+	void reload() throws IOException {
+		//given
+		Path store = tempDir.resolve("dir/recent");
+		RecentFiles recentFiles = RecentFiles.open(store);
+		recentFiles.whenLoaded().join();
+		File a = createFile("a\tb.txt");
+		File b = createFile("b.txt");
+		recentFiles.add("import", a);
+		recentFiles.add("import", b);
+		recentFiles.remove("import", b);
+		recentFiles.flush();
+
+		//when
+		RecentFiles reloaded = RecentFiles.open(store);
+		reloaded.whenLoaded().join();
+
+		//then
+		assertEquals(List.of(a), reloaded.getRecent("import"));
+	}
+
+	@Test
+	void removeBeforeLoad() throws IOException {
+		//given
+		Path store = tempDir.resolve("recent");
+		File a = createFile("a.txt");
+		File b = createFile("b.txt");
+		RecentFiles recentFiles = RecentFiles.open(store);
+		recentFiles.add(null, a);
+		recentFiles.add(null, b);
+		recentFiles.flush();
+
+		//when
+		RecentFiles reopened = RecentFiles.open(store);
+		reopened.remove(null, a);
+		reopened.whenLoaded().join();
+		reopened.flush();
+
+		//then
+		assertEquals(List.of(b), reopened.getRecent(null));
+		RecentFiles reloaded = RecentFiles.open(store);
+		reloaded.whenLoaded().join();
+		assertEquals(List.of(b), reloaded.getRecent(null));
+	}
+
+	@Test
+	void prune() throws IOException {
+		//given
+		Path store = tempDir.resolve("recent");
+		File kept = createFile("kept.txt");
+		File deleted = createFile("deleted.txt");
+		RecentFiles recentFiles = RecentFiles.open(store);
+		recentFiles.whenLoaded().join();
+		recentFiles.add(null, kept);
+		recentFiles.add(null, deleted);
+		Files.delete(deleted.toPath());
+
+		//when
+		int removed = recentFiles.prune().join();
+		recentFiles.flush();
+
+		//then
+		assertEquals(1, removed);
+		assertEquals(List.of(kept), recentFiles.getRecent(null));
+		RecentFiles reloaded = RecentFiles.open(store);
+		reloaded.whenLoaded().join();
+		assertEquals(List.of(kept), reloaded.getRecent(null));
+	}
+
+	@Test
+	void compact() throws IOException {
+		//given
+		Path store = tempDir.resolve("recent");
+		File file = createFile("a.txt");
+		RecentFiles recentFiles = RecentFiles.open(store);
+		recentFiles.whenLoaded().join();
+
+		//when
+		for (int i = 0; i < 200; i++) {
+			recentFiles.add(null, file);
+		}
+		recentFiles.flush();
+
+		//then
+		assertTrue(Files.readAllLines(store).size() < 100);
+		assertEquals(List.of(file), recentFiles.getRecent(null));
+	}
+
+	private File createFile(String name) throws IOException {
+		return Files.createFile(tempDir.resolve(name)).toFile().getAbsoluteFile();
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.dialog;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StackTraceLinesTest {
+
+	@Test
+	void formatSameAsPrintStackTrace() {
+		//given
+		IllegalStateException exception = new IllegalStateException("top", new IllegalArgumentException("cause"));
+		exception.addSuppressed(new RuntimeException("suppressed"));
+
+		//when
+		List<String> lines = StackTraceLines.format(exception);
+
+		//then
+		StringWriter expected = new StringWriter();
+		exception.printStackTrace(new PrintWriter(expected));
+		assertEquals(expected.toString().lines().toList(), lines);
+	}
+
+	@Test
+	void circularReference() {
+		//given
+		RuntimeException first = new RuntimeException("first");
+		RuntimeException second = new RuntimeException("second", first);
+		first.initCause(second);
+
+		//when
+		List<String> lines = StackTraceLines.format(first);
+
+		//then
+		assertEquals("Caused by: [CIRCULAR REFERENCE: " + first + "]", lines.get(lines.size() - 1));
+	}
+}
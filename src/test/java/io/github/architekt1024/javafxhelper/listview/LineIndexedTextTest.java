@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.listview;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineIndexedTextTest {
+
+	@Test
+	void lines() {
+		//when
+		LineIndexedText text = new LineIndexedText("first\nsecond\r\nthird\rfourth");
+
+		//then
+		assertEquals(4, text.getLineCount());
+		assertEquals("first", text.getLine(0));
+		assertEquals("second", text.getLine(1));
+		assertEquals("third", text.getLine(2));
+		assertEquals("fourth", text.getLine(3));
+	}
+
+	@Test
+	void emptyText() {
+		//when
+		LineIndexedText text = new LineIndexedText("");
+
+		//then
+		assertEquals(1, text.getLineCount());
+		assertEquals("", text.getLine(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> text.getLine(1));
+	}
+
+	@Test
+	void wrapLongLine() {
+		//when
+		LineIndexedText text = new LineIndexedText("x".repeat(LineIndexedText.MAX_LINE_LENGTH * 2 + 1));
+
+		//then
+		assertEquals(3, text.getLineCount());
+		assertEquals(LineIndexedText.MAX_LINE_LENGTH, text.getLine(0).length());
+		assertEquals(1, text.getLine(2).length());
+	}
+
+	@Test
+	void find() {
+		//given
+		LineIndexedText text = new LineIndexedText("alpha\nBeta\ngamma\nbeta");
+
+		//then
+		assertEquals(1, text.find("beta", 0));
+		assertEquals(3, text.find("beta", 2));
+		assertEquals(1, text.find("BETA", 4));
+		assertEquals(-1, text.find("delta", 0));
+		assertEquals(-1, text.find("", 0));
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayeredConfigurationTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void resolveByPrecedence() {
+		//given
+		LayeredConfiguration configuration = new LayeredConfiguration("defaults", "user", "command line");
+
+		//when
+		configuration.setLayer("defaults", Map.of("theme", "light", "language", "en", "size", "10"));
+		configuration.setLayer("command line", Map.of("size", "12"));
+		configuration.setLayer("user", Map.of("theme", "dark", "size", "11"));
+
+		//then
+		assertEquals("dark", configuration.get("theme"));
+		assertEquals("user", configuration.getSource("theme"));
+		assertEquals("en", configuration.get("language"));
+		assertEquals("defaults", configuration.getSource("language"));
+		assertEquals("12", configuration.get("size"));
+		assertEquals("command line", configuration.getSource("size"));
+		assertNull(configuration.get("missing"));
+		assertNull(configuration.getSource("missing"));
+		assertEquals(Map.of("theme", "dark", "language", "en", "size", "12"), configuration.asMap());
+	}
+
+	@Test
+	void reloadLayer() throws IOException {
+		//given
+		LayeredConfiguration configuration = new LayeredConfiguration("defaults", "user", "command line");
+		configuration.setLayer("defaults", Map.of("theme", "light", "size", "10"));
+		configuration.setLayer("command line", Map.of("size", "12"));
+		Path path = Files.writeString(tempDir.resolve("user.properties"), "theme=dark\nsize=11\nfont=Arial\n");
+		configuration.loadLayer("user", path);
+		Files.writeString(path, "size=14\nfont=Arial\n");
+
+		//when
+		Set<String> changed = configuration.loadLayer("user", path);
+
+		//then
+		assertEquals(Set.of("theme"), changed);
+		assertEquals("light", configuration.get("theme"));
+		assertEquals("defaults", configuration.getSource("theme"));
+		assertEquals("12", configuration.get("size"));
+		assertEquals(Map.of("size", "14", "font", "Arial"), configuration.getLayer("user"));
+	}
+
+	@Test
+	void removeKey() {
+		//given
+		LayeredConfiguration configuration = new LayeredConfiguration("defaults", "user");
+		configuration.setLayer("user", Map.of("key", "value"));
+
+		//when
+		Set<String> changed = configuration.setLayer("user", Map.of());
+
+		//then
+		assertEquals(Set.of("key"), changed);
+		assertFalse(configuration.asMap().containsKey("key"));
+		assertThrows(IllegalArgumentException.class, () -> configuration.setLayer("site", Map.of()));
+		assertThrows(IllegalArgumentException.class, () -> new LayeredConfiguration("a", "a"));
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.converter.NumberStringConverter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservableSettingsTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void batchedNotification() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "a=1\nb=2\nc=3\n");
+		ObservableSettings settings = PropertiesUtils.loadObservableSettings(path);
+		List<Set<String>> events = new ArrayList<>();
+		settings.addListener((source, keys) -> events.add(keys));
+		Files.writeString(path, "a=1\nb=20\nd=4\n");
+
+		//when
+		settings.load(path);
+
+		//then
+		assertEquals(List.of(Set.of("b", "c", "d")), events);
+		assertEquals(Map.of("a", "1", "b", "20", "d", "4"), settings.getMap());
+	}
+
+	@Test
+	void singleChange() {
+		//given
+		ObservableSettings settings = new ObservableSettings();
+		List<Set<String>> events = new ArrayList<>();
+		settings.addListener((source, keys) -> events.add(keys));
+
+		//when
+		settings.set("a", "1");
+		settings.set("a", "1");
+		settings.set("a", null);
+
+		//then
+		assertEquals(List.of(Set.of("a"), Set.of("a")), events);
+	}
+
+	@Test
+	void bindBidirectional() {
+		//given
+		ObservableSettings settings = new ObservableSettings();
+		settings.setAll(Map.of("name", "John", "volume", "5"));
+		StringProperty name = new SimpleStringProperty();
+		IntegerProperty volume = new SimpleIntegerProperty();
+
+		//when
+		settings.bindBidirectional("name", name);
+		settings.bindBidirectional("volume", volume, new NumberStringConverter("0"));
+
+		//then
+		assertEquals("John", name.get());
+		assertEquals(5, volume.get());
+		name.set("Anna");
+		volume.set(7);
+		assertEquals("Anna", settings.get("name"));
+		assertEquals("7", settings.get("volume"));
+		settings.set("name", "Eve");
+		assertEquals("Eve", name.get());
+	}
+
+	@Test
+	void saveSettings() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "# comment\na=1\n");
+		ObservableSettings settings = PropertiesUtils.loadObservableSettings(path);
+
+		//when
+		settings.set("a", "2");
+		settings.save(path);
+
+		//then
+		assertEquals("# comment\na=2\n", Files.readString(path));
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathTaskQueueTest {
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void samePathInOrder() throws Exception {
+		//given
+		PathTaskQueue queue = new PathTaskQueue(executor);
+		Path path = tempDir.resolve("a.properties");
+		CountDownLatch latch = new CountDownLatch(1);
+		List<Integer> order = new CopyOnWriteArrayList<>();
+
+		//when
+		CompletableFuture<Object> first = queue.submit(path, () -> {
+			awaitLatch(latch);
+			order.add(1);
+			throw new IOException("failed");
+		});
+		CompletableFuture<Integer> second = queue.submit(path, () -> {
+			order.add(2);
+			return 2;
+		});
+		CompletableFuture<Integer> other = queue.submit(tempDir.resolve("b.properties"), () -> 3);
+
+		//then
+		assertEquals(Integer.valueOf(3), other.get(5, TimeUnit.SECONDS));
+		assertTrue(order.isEmpty());
+		latch.countDown();
+		assertEquals(Integer.valueOf(2), second.get(5, TimeUnit.SECONDS));
+		assertEquals(List.of(1, 2), order);
+		ExecutionException exception = assertThrows(ExecutionException.class, first::get);
+		assertTrue(exception.getCause() instanceof UncheckedIOException);
+	}
+
+	@Test
+	void cancelKeepsOrder() throws Exception {
+		//given
+		PathTaskQueue queue = new PathTaskQueue(executor);
+		Path path = tempDir.resolve("a.properties");
+		CountDownLatch latch = new CountDownLatch(1);
+		List<Integer> order = new CopyOnWriteArrayList<>();
+		CompletableFuture<Integer> first = queue.submit(path, () -> {
+			awaitLatch(latch);
+			order.add(1);
+			return 1;
+		});
+
+		//when
+		first.cancel(false);
+		CompletableFuture<Integer> second = queue.submit(path, () -> {
+			order.add(2);
+			return 2;
+		});
+		latch.countDown();
+
+		//then
+		assertEquals(Integer.valueOf(2), second.get(5, TimeUnit.SECONDS));
+		assertEquals(List.of(1, 2), order);
+	}
+
+	@Test
+	void saveAndLoadAsync() throws Exception {
+		//given
+		Path path = tempDir.resolve("app.properties");
+		Properties properties = new Properties();
+		properties.setProperty("key", "first");
+
+		//when
+		CompletableFuture<Void> save = PropertiesUtils.savePropertiesAsync(path, properties);
+		properties.setProperty("key", "second");
+		Properties loaded = PropertiesUtils.loadPropertiesAsync(path).get(5, TimeUnit.SECONDS);
+
+		//then
+		assertTrue(save.isDone());
+		assertEquals("first", loaded.getProperty("key"));
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
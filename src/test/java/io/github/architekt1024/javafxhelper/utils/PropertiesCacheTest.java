@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesCacheTest {
+	private final PropertiesCache cache = new PropertiesCache();
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void tearDown() {
+		cache.close();
+	}
+
+	@Test
+	void servedFromMemory() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "a=1\nb=2\n");
+
+		//when
+		Map<String, String> first = cache.get(path);
+		Map<String, String> second = cache.get(tempDir.resolve("./app.properties"));
+
+		//then
+		assertSame(first, second);
+		assertEquals(Map.of("a", "1", "b", "2"), first);
+	}
+
+	@Test
+	void missingFile() throws IOException {
+		//then
+		assertTrue(cache.get(tempDir.resolve("missing.properties")).isEmpty());
+	}
+
+	@Test
+	void reloadOnExternalChange() throws Exception {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "a=1\nb=2\n");
+		cache.get(path);
+		CompletableFuture<Set<String>> changed = new CompletableFuture<>();
+		cache.addListener(path, (changedPath, keys) -> changed.complete(keys));
+
+		//when
+		Files.writeString(path, "a=1\nb=3\nc=4\n");
+
+		//then
+		assertEquals(Set.of("b", "c"), changed.get(10, TimeUnit.SECONDS));
+		assertEquals("3", cache.get(path).get("b"));
+	}
+
+	@Test
+	void manualReload() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "a=1\n");
+		cache.get(path);
+		Files.writeString(path, "a=2\n");
+
+		//when
+		Set<String> changed = cache.reload(path).join();
+
+		//then
+		assertEquals(Set.of("a"), changed);
+		assertEquals("2", cache.get(path).get("a"));
+	}
+
+	@Test
+	void listenerBeforeFirstGet() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "a=1\nb=2\n");
+		List<Set<String>> notifications = new CopyOnWriteArrayList<>();
+		cache.addListener(path, (changedPath, keys) -> notifications.add(keys));
+		cache.reload(path).join();
+
+		//when
+		Files.writeString(path, "a=1\nb=3\n");
+		cache.reload(path).join();
+
+		//then
+		assertEquals(Set.of("b"), union(notifications));
+	}
+
+	@Test
+	void invalidateKeepsListeners() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "a=1\n");
+		cache.get(path);
+		List<Set<String>> notifications = new CopyOnWriteArrayList<>();
+		cache.addListener(path, (changedPath, keys) -> notifications.add(keys));
+
+		//when
+		cache.invalidate(path);
+		Files.writeString(path, "a=2\n");
+		cache.reload(path).join();
+
+		//then
+		assertEquals(Set.of("a"), union(notifications));
+		assertEquals("2", cache.get(path).get("a"));
+	}
+
+	@Test
+	void changedKeys() {
+		//when
+		Set<String> changed = PropertiesCache.changedKeys(Map.of("a", "1", "b", "2", "c", "3"), Map.of("a", "1", "b", "5", "d", "4"));
+
+		//then
+		assertEquals(Set.of("b", "c", "d"), changed);
+	}
+
+	private static Set<String> union(List<Set<String>> notifications) {
+		Set<String> keys = new HashSet<>();
+		notifications.forEach(keys::addAll);
+		return keys;
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesDocumentTest {
+	private static final String TEXT = "# Settings\r\n"
+		+ "\r\n"
+		+ "name = Application\r\n"
+		+ "! window\r\n"
+		+ "window.size: 800x600\r\n"
+		+ "message=very \\\r\n"
+		+ "    long text\r\n"
+		+ "old=value";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void updateChangedEntries() throws IOException {
+		//given
+		PropertiesDocument document = PropertiesDocument.parse(TEXT);
+
+		//when
+		boolean changed = document.update(Map.of(
+			"name", "Application",
+			"window.size", "1024x768",
+			"message", "very long text",
+			"new key", " a=b "));
+
+		//then
+		assertTrue(changed);
+		assertEquals("# Settings\r\n"
+			+ "\r\n"
+			+ "name = Application\r\n"
+			+ "! window\r\n"
+			+ "window.size=1024x768\r\n"
+			+ "message=very \\\r\n"
+			+ "    long text\r\n"
+			+ "new\\ key=\\ a\\=b \r\n", document.getText());
+	}
+
+	@Test
+	void noChanges() throws IOException {
+		//given
+		PropertiesDocument document = PropertiesDocument.parse(TEXT);
+
+		//when
+		boolean changed = document.update(Map.of(
+			"name", "Application",
+			"window.size", "800x600",
+			"message", "very long text",
+			"old", "value"));
+
+		//then
+		assertFalse(changed);
+		assertEquals(TEXT, document.getText());
+	}
+
+	@Test
+	void escapedValuesReadByProperties() throws IOException {
+		//given
+		String value = " tab\tnew\nline \\ #!=: \u017c";
+		PropertiesDocument document = PropertiesDocument.parse("");
+
+		//when
+		document.update(Map.of("k:e=y", value));
+		Properties properties = new Properties();
+		properties.load(new StringReader(document.getText()));
+
+		//then
+		assertEquals(value, properties.getProperty("k:e=y"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"key=value\\", "key=value\\\n", "key=value\\\r\n", "\\", "  \\\n", "\\\r\n", "!\n#\r b#\nb a\\\r"})
+	void appendAfterContinuation(String text) throws IOException {
+		//given
+		PropertiesDocument document = PropertiesDocument.parse(text);
+		Properties expected = new Properties();
+		expected.load(new StringReader(text));
+		expected.setProperty("a b", "x");
+		expected.setProperty("added", "1");
+		Map<String, String> values = new HashMap<>();
+		for (String name : expected.stringPropertyNames()) {
+			values.put(name, expected.getProperty(name));
+		}
+
+		//when
+		document.update(values);
+		Properties properties = new Properties();
+		properties.load(new StringReader(document.getText()));
+
+		//then
+		assertEquals(expected, properties);
+	}
+
+	@Test
+	void saveIncremental() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "# comment\nkey=old\n");
+		Properties properties = PropertiesUtils.loadProperties(path);
+
+		//when
+		boolean unchanged = PropertiesUtils.savePropertiesIncremental(path, properties);
+		properties.setProperty("key", "new");
+		boolean changed = PropertiesUtils.savePropertiesIncremental(path, properties);
+
+		//then
+		assertFalse(unchanged);
+		assertTrue(changed);
+		assertEquals("# comment\nkey=new\n", Files.readString(path));
+	}
+}
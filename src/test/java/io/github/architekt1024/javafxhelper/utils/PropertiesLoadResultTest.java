@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PropertiesLoadResultTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void loadAllInParallel() throws IOException {
+		//given
+		for (int i = 0; i < 50; i++) {
+			Path plugin = Files.createDirectories(tempDir.resolve(String.format("plugin%02d", i)));
+			Files.writeString(plugin.resolve("plugin.properties"), "plugin." + i + "=enabled\nshared=" + i + "\n");
+		}
+		Files.writeString(tempDir.resolve("plugin10/other.txt"), "ignored=true");
+		Files.writeString(tempDir.resolve("plugin20/plugin.properties"), "broken=\\u12");
+		Files.writeString(tempDir.resolve("plugin.properties"), "root=true");
+
+		//when
+		PropertiesLoadResult result = PropertiesUtils.loadAll(tempDir, "**/plugin.properties");
+
+		//then
+		assertEquals(50, result.getFiles().size());
+		assertEquals(List.of(tempDir.resolve("plugin20/plugin.properties")),
+			result.getErrors().stream().map(PropertiesFileResult::getPath).collect(Collectors.toList()));
+		Map<String, String> properties = result.getProperties();
+		assertEquals(50, properties.size());
+		assertEquals("enabled", properties.get("plugin.0"));
+		assertEquals("49", properties.get("shared"));
+		assertFalse(properties.containsKey("ignored"));
+		assertFalse(properties.containsKey("root"));
+		assertEquals(2, result.getFiles().get(0).getSize());
+		assertFalse(result.getTotalLoadTime().isNegative());
+	}
+
+	@Test
+	void loadXml() throws IOException {
+		//given
+		Files.writeString(tempDir.resolve("a.properties"), "key=text");
+		Files.writeString(tempDir.resolve("b.xml"), "<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\">"
+			+ "<properties><entry key=\"key\">xml</entry></properties>");
+
+		//when
+		PropertiesLoadResult result = PropertiesUtils.loadAll(tempDir, "*.{properties,xml}");
+
+		//then
+		assertTrue(result.getErrors().isEmpty());
+		assertEquals(Map.of("key", "xml"), result.getProperties());
+	}
+
+	@Test
+	void unreadableDirectoryDoesNotAbort() throws IOException {
+		//given
+		Files.writeString(tempDir.resolve("a.properties"), "key=value");
+		Path locked = Files.createDirectories(tempDir.resolve("locked"));
+		Files.writeString(locked.resolve("b.properties"), "other=value");
+		assumeTrue(Files.getFileAttributeView(locked, PosixFileAttributeView.class) != null);
+		Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("---------"));
+		try {
+			assumeTrue(!Files.isReadable(locked));
+
+			//when
+			PropertiesLoadResult result = PropertiesUtils.loadAll(tempDir, "**.properties");
+
+			//then
+			assertEquals(Map.of("key", "value"), result.getProperties());
+			assertEquals(1, result.getErrors().size());
+			assertEquals(locked, result.getErrors().get(0).getPath());
+		} finally {
+			Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesParserTest {
+	@TempDir
+	Path tempDir;
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"key=value",
+		"  key = value  \nother:value\r\nthird value\rfourth",
+		"# comment\n! comment \\\nkey=value",
+		"key=multi \\\n    line \\\r\n\tvalue",
+		"key\\ with\\=escapes\\:=tab\\tnew\\nline\\\\ \\u0041\\u017c",
+		"empty\nempty2=\n\n   \nlast\\",
+		"key=\\\n\nnext=value",
+		"\\#notComment=1\n  \\ space=2",
+		"zolw=\u017c\u00f3\u0142w \uD83D\uDE00",
+		"dup=1\ndup=2",
+		"\\\n",
+		"  \\",
+		"\\\r",
+		"\\\r\n",
+		"\\\nkey=value",
+		"a=1\n\\\n  b=2",
+		"\\\n\n\\\n   #comment\n\\\n\\\nlast"
+	})
+	void sameAsProperties(String text) throws IOException {
+		//given
+		Properties properties = new Properties();
+		properties.load(new StringReader(text));
+		Map<String, String> expected = new HashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			expected.put(name, properties.getProperty(name));
+		}
+
+		//when
+		Map<String, String> values = PropertiesParser.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+
+		//then
+		assertEquals(expected, values);
+	}
+
+	@Test
+	void parseFile() throws IOException {
+		//given
+		Path path = tempDir.resolve("messages.properties");
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			text.append("message.").append(i).append(" = Text ").append(i).append('\n');
+		}
+		Files.writeString(path, text);
+
+		//when
+		Map<String, String> values = PropertiesUtils.loadPropertiesMap(path);
+
+		//then
+		assertEquals(10_000, values.size());
+		assertEquals("Text 9999", values.get("message.9999"));
+		assertThrows(UnsupportedOperationException.class, () -> values.put("key", "value"));
+	}
+
+	@Test
+	void missingFile() throws IOException {
+		assertTrue(PropertiesUtils.loadPropertiesMap(tempDir.resolve("missing.properties")).isEmpty());
+	}
+
+	@Test
+	void malformed() {
+		ByteBuffer badEscape = ByteBuffer.wrap("key=\\u12".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse(badEscape));
+		assertThrows(MalformedInputException.class, () -> PropertiesParser.parse(ByteBuffer.wrap(new byte[]{'k', '=', (byte) 0xC5})));
+	}
+}
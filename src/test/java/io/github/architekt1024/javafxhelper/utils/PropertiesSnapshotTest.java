@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesSnapshotTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writeAndRead() throws IOException {
+		//given
+		Map<String, String> properties = new HashMap<>();
+		properties.put("b", "same");
+		properties.put("a", "");
+		properties.put("\u017c\u00f3\u0142w", "turtle");
+		properties.put("c", "same");
+		properties.put("ab", "value");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		//when
+		PropertiesSnapshot.write(new DataOutputStream(bytes), properties, 10, 20);
+		PropertiesSnapshot snapshot = PropertiesSnapshot.of(ByteBuffer.wrap(bytes.toByteArray()));
+
+		//then
+		assertEquals(properties, snapshot);
+		assertEquals(10, snapshot.getSourceLastModified());
+		assertEquals("turtle", snapshot.get("\u017c\u00f3\u0142w"));
+		assertEquals("", snapshot.get("a"));
+		assertTrue(snapshot.containsKey("ab"));
+		assertNull(snapshot.get("abc"));
+		assertNull(snapshot.get(1));
+		assertThrows(UnsupportedOperationException.class, () -> snapshot.put("d", "e"));
+	}
+
+	@Test
+	void invalidSnapshot() {
+		assertThrows(IOException.class, () -> PropertiesSnapshot.of(ByteBuffer.wrap(new byte[]{1, 2, 3})));
+	}
+
+	@Test
+	void corruptedIndex() throws IOException {
+		//given
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PropertiesSnapshot.write(new DataOutputStream(bytes), Map.of("key", "value"), 10, 20);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+		//when
+		buffer.putInt(28 + 8, 1000);
+
+		//then
+		assertThrows(IOException.class, () -> PropertiesSnapshot.of(buffer));
+	}
+
+	@Test
+	void regenerateWhenSourceChanged() throws IOException {
+		//given
+		Path source = Files.writeString(tempDir.resolve("app.properties"), "key=old\n");
+		Path snapshotPath = tempDir.resolve("app.properties.snapshot");
+		assertEquals("old", PropertiesUtils.loadPropertiesSnapshot(source).get("key"));
+		FileTime compiled = Files.getLastModifiedTime(snapshotPath);
+
+		//when
+		Map<String, String> unchanged = PropertiesUtils.loadPropertiesSnapshot(source);
+		Files.writeString(source, "key=new value\n");
+		Map<String, String> changed = PropertiesUtils.loadPropertiesSnapshot(source);
+
+		//then
+		assertEquals("old", unchanged.get("key"));
+		assertEquals("new value", changed.get("key"));
+		assertTrue(compiled.compareTo(Files.getLastModifiedTime(snapshotPath)) <= 0);
+	}
+
+	@Test
+	void missingSource() throws IOException {
+		assertTrue(PropertiesUtils.loadPropertiesSnapshot(tempDir.resolve("missing.properties")).isEmpty());
+	}
+}
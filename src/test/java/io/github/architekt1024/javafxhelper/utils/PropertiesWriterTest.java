@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PropertiesWriterTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void coalesceSaves() throws IOException {
+		//given
+		Path path = tempDir.resolve("app.properties");
+		Properties properties = new Properties();
+		try (PropertiesWriter writer = new PropertiesWriter(Duration.ofHours(1))) {
+			//when
+			for (int i = 0; i < 1000; i++) {
+				properties.setProperty("volume", String.valueOf(i));
+				writer.save(path, properties);
+			}
+
+			//then
+			assertEquals(1, writer.getPendingCount());
+			assertFalse(Files.exists(path));
+			writer.flush();
+			assertEquals(0, writer.getPendingCount());
+		}
+		assertEquals("999", PropertiesUtils.loadProperties(path).getProperty("volume"));
+	}
+
+	@Test
+	void closeWritesPendingAndRejectsSaves() throws IOException {
+		//given
+		Path path = tempDir.resolve("app.properties");
+		Properties properties = new Properties();
+		properties.setProperty("key", "value");
+		PropertiesWriter writer = new PropertiesWriter(Duration.ofHours(1));
+		writer.save(path, properties);
+
+		//when
+		writer.close();
+
+		//then
+		assertEquals(properties, PropertiesUtils.loadProperties(path));
+		assertThrows(IllegalStateException.class, () -> writer.save(path, properties));
+		assertEquals(0, writer.getPendingCount());
+	}
+
+	@Test
+	void saveIncrementalKeepsComments() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "# volume\nvolume=1\n");
+		Properties properties = PropertiesUtils.loadProperties(path);
+		properties.setProperty("volume", "2");
+
+		//when
+		try (PropertiesWriter writer = new PropertiesWriter(Duration.ofHours(1))) {
+			writer.saveIncremental(path, properties);
+		}
+
+		//then
+		assertEquals("# volume\nvolume=2\n", Files.readString(path));
+	}
+
+	@Test
+	void writeAfterDebounce() throws Exception {
+		//given
+		Path path = tempDir.resolve("app.xml");
+		Properties properties = new Properties();
+		properties.setProperty("key", "value");
+		try (PropertiesWriter writer = new PropertiesWriter(Duration.ofMillis(10))) {
+			//when
+			writer.saveXML(path, properties);
+			for (int i = 0; i < 500 && writer.getPendingCount() > 0; i++) {
+				Thread.sleep(10);
+			}
+
+			//then
+			assertEquals("value", PropertiesUtils.loadPropertiesXML(path).getProperty("key"));
+		}
+	}
+
+	@Test
+	void saveAtomicReplacesFile() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "old=1\n");
+		Properties properties = new Properties();
+		properties.setProperty("new", "2");
+
+		//when
+		PropertiesUtils.savePropertiesAtomic(path, properties);
+
+		//then
+		assertEquals(properties, PropertiesUtils.loadProperties(path));
+		try (var files = Files.list(tempDir)) {
+			assertEquals(1, files.count());
+		}
+	}
+
+	@Test
+	void saveAtomicKeepsPermissions() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "old=1\n");
+		assumeTrue(Files.getFileAttributeView(path, PosixFileAttributeView.class) != null);
+		Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+		Files.setPosixFilePermissions(path, permissions);
+		Properties properties = new Properties();
+		properties.setProperty("new", "2");
+
+		//when
+		PropertiesUtils.savePropertiesAtomic(path, properties);
+
+		//then
+		assertEquals(permissions, Files.getPosixFilePermissions(path));
+	}
+
+	@Test
+	void saveAtomicNewFileWithDefaultPermissions() throws IOException {
+		//given
+		Path path = tempDir.resolve("app.properties");
+		Path plain = tempDir.resolve("plain.properties");
+		assumeTrue(Files.getFileAttributeView(tempDir, PosixFileAttributeView.class) != null);
+		Properties properties = new Properties();
+		properties.setProperty("new", "2");
+
+		//when
+		PropertiesUtils.savePropertiesAtomic(path, properties);
+		PropertiesUtils.saveProperties(plain, properties);
+
+		//then
+		assertEquals(Files.getPosixFilePermissions(plain), Files.getPosixFilePermissions(path));
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.InvalidPropertiesFormatException;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesXmlTest {
+	private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+		+ "<!DOCTYPE properties SYSTEM \"http://java.sun.com/dtd/properties.dtd\">\n";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void readInDocumentOrder() throws IOException {
+		//given
+		String xml = HEADER + "<properties version=\"1.0\">\n"
+			+ "<comment>settings</comment>\n"
+			+ "<entry key=\"b\">2 &amp; <![CDATA[<3>]]></entry>\n"
+			+ "<entry key=\"a\"/>\n"
+			+ "</properties>\n";
+		List<String> entries = new ArrayList<>();
+
+		//when
+		PropertiesXml.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), (key, value) -> entries.add(key + "=" + value));
+
+		//then
+		assertEquals(List.of("b=2 & <3>", "a="), entries);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"<!DOCTYPE html SYSTEM \"http://java.sun.com/dtd/properties.dtd\"><properties/>",
+		"<!DOCTYPE properties SYSTEM \"http://example.com/evil.dtd\"><properties/>",
+		"<settings/>",
+		"<?xml version=\"1.0\"?><properties><entry key=\"a\">1</entry></properties>",
+		"<properties><entry>value</entry></properties>",
+		"<properties><entry key=\"a\"><b/></entry></properties>",
+		"<properties><entry key=\"a\">1</entry><comment/></properties>",
+		"<properties>text</properties>",
+		"<properties><entry key=\"a\">1</entry>"
+	})
+	void invalid(String xml) {
+		assertThrows(InvalidPropertiesFormatException.class,
+			() -> PropertiesXml.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), (key, value) -> {
+			}));
+	}
+
+	@Test
+	void compatibleWithProperties() throws IOException {
+		//given
+		Properties properties = new Properties();
+		for (int i = 0; i < 10_000; i++) {
+			properties.setProperty("key." + i, "value <" + i + "> & \u017c");
+		}
+		Path path = tempDir.resolve("settings.xml");
+
+		//when
+		PropertiesUtils.savePropertiesXMLStreaming(path, properties);
+		Properties loaded = new Properties();
+		try (var in = Files.newInputStream(path)) {
+			loaded.loadFromXML(in);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		properties.storeToXML(out, "comment", StandardCharsets.UTF_8);
+
+		//then
+		assertEquals(properties, loaded);
+		assertEquals(properties, PropertiesXml.load(path));
+		assertEquals(properties, PropertiesXml.load(writeBytes(out.toByteArray())));
+	}
+
+	@Test
+	void controlCharactersRoundTrip() throws IOException {
+		//given
+		Properties properties = new Properties();
+		properties.setProperty("tab\tkey", "tab\tvalue");
+		properties.setProperty("line\r\nkey\n", "line\r\nvalue\r");
+		properties.setProperty(" \"quoted\" & <key> ", " \"quoted\" & <value> ");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//when
+		PropertiesXml.write(out, properties, "comment\r\nline");
+		Path path = writeBytes(out.toByteArray());
+		Properties loaded = new Properties();
+		try (var in = Files.newInputStream(path)) {
+			loaded.loadFromXML(in);
+		}
+
+		//then
+		assertEquals(properties, PropertiesXml.load(path));
+		assertEquals(properties, loaded);
+	}
+
+	private Path writeBytes(byte[] bytes) throws IOException {
+		return Files.write(tempDir.resolve("stored.xml"), bytes);
+	}
+}
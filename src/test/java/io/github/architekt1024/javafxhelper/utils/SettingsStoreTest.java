@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SettingsStoreTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void batchUpdate() {
+		//given
+		SettingsStore store = new SettingsStore(Map.of("a", "1", "b", "2"));
+		Map<String, String> before = store.snapshot();
+
+		//when
+		Map<String, String> after = store.update(settings -> {
+			settings.put("a", "10");
+			settings.remove("b");
+			settings.put("c", "3");
+		});
+
+		//then
+		assertEquals(Map.of("a", "1", "b", "2"), before);
+		assertEquals(Map.of("a", "10", "c", "3"), after);
+		assertSame(after, store.snapshot());
+		assertEquals("10", store.get("a"));
+		assertEquals("x", store.get("b", "x"));
+		assertThrows(UnsupportedOperationException.class, () -> after.put("d", "4"));
+	}
+
+	@Test
+	void unchangedSnapshot() {
+		//given
+		SettingsStore store = new SettingsStore(Map.of("a", "1"));
+		Map<String, String> before = store.snapshot();
+
+		//when
+		store.set("a", "1");
+		store.set("b", null);
+
+		//then
+		assertSame(before, store.snapshot());
+	}
+
+	@Test
+	void concurrentUpdates() throws InterruptedException {
+		//given
+		SettingsStore store = new SettingsStore(Map.of("counter", "0"));
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 1000; j++) {
+					store.update(settings -> settings.merge("counter", "1", (a, b) -> String.valueOf(Integer.parseInt(a) + 1)));
+				}
+			}));
+		}
+
+		//when
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		//then
+		assertEquals("8000", store.get("counter"));
+	}
+
+	@Test
+	void loadAndSave() throws IOException {
+		//given
+		Path path = Files.writeString(tempDir.resolve("app.properties"), "# comment\na=1\n");
+		SettingsStore store = PropertiesUtils.loadSettingsStore(path);
+
+		//when
+		store.set("a", "2");
+		store.save(path);
+		store.replaceAll(Map.of());
+		store.load(path);
+
+		//then
+		assertEquals("# comment\na=2\n", Files.readString(path));
+		assertEquals(Map.of("a", "2"), store.snapshot());
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleHtmlRendererTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"plain text",
+		"<b>bold</b> and <i>italic</i>",
+		"<html><body><p>Text</p><ul><li>one</li><li>two</li></ul></body></html>",
+		"<a href=\"https://example.com\" target=\"_blank\">link</a>",
+		"<!-- comment -->Tom &amp; Jerry<br/>"
+	})
+	void supported(String html) {
+		assertTrue(SimpleHtmlRenderer.isSupported(html));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"<script>alert(1)</script>",
+		"<table><tr><td>cell</td></tr></table>",
+		"<b style=\"color: red\">bold</b>",
+		"<a href=\"javascript:alert(1)\">link</a>",
+		"<a href=\"https://example.com\" onclick=\"x()\">link</a>",
+		"<b>broken <tag"
+	})
+	void notSupported(String html) {
+		assertFalse(SimpleHtmlRenderer.isSupported(html));
+	}
+
+	@Test
+	void parseStyles() {
+		//when
+		List<SimpleHtmlRenderer.Segment> segments = SimpleHtmlRenderer.parse("Hello <b>big <i>world</i></b>");
+
+		//then
+		assertEquals(3, segments.size());
+		assertEquals("Hello ", segments.get(0).getText());
+		assertFalse(segments.get(0).isBold());
+		assertEquals("big ", segments.get(1).getText());
+		assertTrue(segments.get(1).isBold());
+		assertFalse(segments.get(1).isItalic());
+		assertEquals("world", segments.get(2).getText());
+		assertTrue(segments.get(2).isBold());
+		assertTrue(segments.get(2).isItalic());
+	}
+
+	@Test
+	void parseListAndLink() {
+		//when
+		List<SimpleHtmlRenderer.Segment> segments = SimpleHtmlRenderer.parse(
+			"<ol><li>first</li><li><a href='mailto:a@b.c'>mail</a></li></ol>");
+
+		//then
+		assertEquals(2, segments.size());
+		assertEquals("1. first\n2. ", segments.get(0).getText());
+		assertEquals("mail", segments.get(1).getText());
+		assertEquals("mailto:a@b.c", segments.get(1).getHref());
+	}
+}
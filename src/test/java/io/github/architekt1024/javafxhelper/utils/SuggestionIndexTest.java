@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionIndexTest {
+	private SuggestionIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = SuggestionIndex.build(Arrays.asList("ABC-100", "abc-200", "XABC-300", "def-100", null, "ABC-100", "Zab"));
+	}
+
+	@Test
+	void size() {
+		assertEquals(5, index.size());
+	}
+
+	@Test
+	void prefixFirst() {
+		//when
+		List<String> result = index.find("abc", 10);
+
+		//then
+		assertEquals(List.of("ABC-100", "abc-200", "XABC-300"), result);
+	}
+
+	@Test
+	void contains() {
+		//when
+		List<String> result = index.find("-100", 10);
+
+		//then
+		assertEquals(List.of("ABC-100", "def-100"), result);
+	}
+
+	@Test
+	void limit() {
+		//when
+		List<String> result = index.find("ab", 2);
+
+		//then
+		assertEquals(List.of("ABC-100", "abc-200"), result);
+	}
+
+	@Test
+	void shortQueryOnlyPrefix() {
+		//when
+		List<String> result = index.find("ab", 10);
+
+		//then
+		assertEquals(List.of("ABC-100", "abc-200"), result);
+	}
+
+	@Test
+	void empty() {
+		assertTrue(index.find("", 10).isEmpty());
+		assertTrue(index.find(null, 10).isEmpty());
+		assertTrue(index.find("qqq", 10).isEmpty());
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020-2026 architekt1024
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.architekt1024.javafxhelper.utils;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedPropertiesTest {
+
+	@Test
+	void typedValues() {
+		//given
+		Properties properties = new Properties();
+		properties.setProperty("int", " 42 ");
+		properties.setProperty("long", "10000000000");
+		properties.setProperty("double", "1.5");
+		properties.setProperty("boolean", "TRUE");
+		properties.setProperty("duration", "PT30S");
+		properties.setProperty("enum", "DAYS");
+		properties.setProperty("list", "a, b,,c ");
+
+		//when
+		TypedProperties typed = TypedProperties.of(properties);
+
+		//then
+		assertEquals(42, typed.getInt("int", 0));
+		assertEquals(10_000_000_000L, typed.getLong("long", 0));
+		assertEquals(1.5, typed.getDouble("double", 0));
+		assertTrue(typed.getBoolean("boolean", false));
+		assertEquals(Duration.ofSeconds(30), typed.getDuration("duration", null));
+		assertEquals(ChronoUnit.DAYS, typed.getEnum("enum", ChronoUnit.class, null));
+		assertEquals(List.of("a", "b", "c"), typed.getList("list"));
+		assertEquals("42", typed.getString("int", null).trim());
+	}
+
+	@Test
+	void defaultValues() {
+		//given
+		TypedProperties typed = TypedProperties.of(Map.of("int", "abc", "boolean", "yes", "enum", "FORTNIGHTS"));
+
+		//then
+		assertEquals(7, typed.getInt("int", 7));
+		assertEquals(7, typed.getInt("int", 7));
+		assertEquals(8, typed.getInt("missing", 8));
+		assertTrue(typed.getBoolean("boolean", true));
+		assertEquals(ChronoUnit.HOURS, typed.getEnum("enum", ChronoUnit.class, ChronoUnit.HOURS));
+		assertTrue(typed.getList("missing").isEmpty());
+	}
+
+	@Test
+	void changedValue() {
+		//given
+		Properties properties = new Properties();
+		properties.setProperty("timeout", "PT1S");
+		TypedProperties typed = TypedProperties.of(properties);
+		Duration first = typed.getDuration("timeout", null);
+
+		//when
+		Duration cached = typed.getDuration("timeout", null);
+		properties.setProperty("timeout", "PT2S");
+		Duration changed = typed.getDuration("timeout", null);
+		properties.remove("timeout");
+
+		//then
+		assertSame(first, cached);
+		assertEquals(Duration.ofSeconds(2), changed);
+		assertNull(typed.getDuration("timeout", null));
+	}
+
+	@Test
+	void sameKeyDifferentTypes() {
+		//given
+		TypedProperties typed = TypedProperties.of(Map.of("value", "5"));
+
+		//then
+		assertEquals(5, typed.getInt("value", 0));
+		assertEquals(5L, typed.getLong("value", 0));
+		assertEquals(List.of("5"), typed.getList("value"));
+	}
+}